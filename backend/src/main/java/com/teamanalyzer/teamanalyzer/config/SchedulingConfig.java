@@ -0,0 +1,11 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/config/SchedulingConfig.java
+package com.teamanalyzer.teamanalyzer.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Aktiviert {@code @Scheduled}-Jobs (z. B. Mail-Outbox-Dispatcher). */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -5,6 +5,8 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,11 +27,19 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.teamanalyzer.teamanalyzer.filter.JwtAuthFilter;
+import com.teamanalyzer.teamanalyzer.infra.security.BcryptCost;
+import com.teamanalyzer.teamanalyzer.infra.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
 
+  private static final Logger LOG = LoggerFactory.getLogger(SecurityConfig.class);
+
   // ---- Single Source of Truth: zentrale Endpunkt-/Rollen-Definitionen ----
   private static final String ROLE_ADMIN = "ADMIN";
 
@@ -56,10 +66,35 @@ public class SecurityConfig {
   @Value("${app.security.bcrypt-strength:12}")
   private int bcryptStrength;
 
+  /**
+   * bcrypt-Kosten: {@code fixed} = {@code app.security.bcrypt-strength},
+   * {@code calibrated} = beim Start gemessen, höchste Stufe im
+   * Latenzbudget ({@code app.security.password-hash.*}).
+   */
   @Bean
-  PasswordEncoder passwordEncoder() {
-    // KISS: delegiert nur die Erzeugung, Parametrisierung per Property
-    return new BCryptPasswordEncoder(bcryptStrength);
+  BcryptCost bcryptCost(MeterRegistry registry,
+      @Value("${app.security.password-hash.mode:fixed}") String mode,
+      @Value("${app.security.password-hash.target-latency:250ms}") Duration targetLatency,
+      @Value("${app.security.password-hash.min-strength:10}") int minStrength,
+      @Value("${app.security.password-hash.max-strength:14}") int maxStrength) {
+    BcryptCost cost = "calibrated".equalsIgnoreCase(mode)
+        ? BcryptCost.calibrate(targetLatency, minStrength, maxStrength, 3)
+        : new BcryptCost(bcryptStrength);
+    LOG.info("bcrypt strength {} (mode={})", cost.strength(), mode);
+    registry.gauge("password.hashing.strength", cost, BcryptCost::strength);
+    return cost;
+  }
+
+  @Bean
+  PasswordEncoder passwordEncoder(BcryptCost cost, MeterRegistry registry,
+      @Value("${app.security.password-pool.threads:0}") int threads,
+      @Value("${app.security.password-pool.queue-capacity:64}") int queueCapacity,
+      @Value("${app.security.password-pool.timeout:5s}") Duration timeout,
+      @Value("${app.security.password-pool.retry-after:2s}") Duration retryAfter) {
+    // bcrypt auf eigenem, kerngroßem Pool statt auf Tomcat-Threads (0 = Anzahl Kerne)
+    int n = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(cost.strength()), n, queueCapacity, timeout,
+        retryAfter, registry);
   }
 
   @Bean
@@ -77,6 +112,9 @@ public class SecurityConfig {
             // Preflight immer erlauben
             .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+            // Async-Redispatch (SSE/Streaming): Ursprungs-Request wurde bereits autorisiert
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
             // offen
             .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
 
@@ -121,8 +159,9 @@ public class SecurityConfig {
         HttpHeaders.CONTENT_TYPE,
         "X-Requested-With",
         HttpHeaders.ACCEPT,
-        HttpHeaders.ORIGIN));
-    cfg.setExposedHeaders(List.of("Content-Disposition")); // für Downloads
+        HttpHeaders.ORIGIN,
+        HttpHeaders.IF_NONE_MATCH)); // Conditional GET (ETag)
+    cfg.setExposedHeaders(List.of("Content-Disposition", HttpHeaders.ETAG, HttpHeaders.RETRY_AFTER)); // Downloads, Polling, 503
     cfg.setAllowCredentials(true);
     cfg.setMaxAge(Duration.ofHours(1).toSeconds()); // lesbarer als nackte Zahl
 
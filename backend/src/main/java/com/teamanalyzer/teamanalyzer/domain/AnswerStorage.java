@@ -0,0 +1,27 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/domain/AnswerStorage.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+/**
+ * Ablage der Likert-Antworten ({@code app.responses.storage}). Umstieg:
+ * ROWS → DUAL (schreibt beides, V4 hat den Bestand gepackt) → PACKED.
+ */
+public enum AnswerStorage {
+    /** Nur {@code survey_answers} (eine Zeile je Antwort). */
+    ROWS,
+    /** Beides schreiben, aus den Zeilen lesen (Migrationsphase). */
+    DUAL,
+    /** Nur {@code survey_responses.answers_packed} schreiben und lesen. */
+    PACKED;
+
+    public boolean writesRows() {
+        return this != PACKED;
+    }
+
+    public boolean writesPacked() {
+        return this != ROWS;
+    }
+
+    public boolean readsPacked() {
+        return this == PACKED;
+    }
+}
@@ -0,0 +1,115 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/domain/LikertHistogram.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import java.util.Arrays;
+
+/**
+ * Häufigkeiten einer Likert-Frage (Werte 1..5, vgl. {@code ck_sa_value}) als
+ * festes {@code int[5]}. Alle Kennzahlen entstehen in einem Durchlauf über
+ * die fünf Klassen – ohne Sortieren oder Entity-Listen.
+ */
+public final class LikertHistogram {
+    public static final int MIN = 1;
+    public static final int MAX = 5;
+    private static final int K = MAX - MIN + 1;
+
+    private final int[] counts = new int[K];
+
+    public LikertHistogram() {
+    }
+
+    /** Aus aggregierten Zählern (Position 0 = Wert 1), z. B. dem Stats-Read-Model. */
+    public static LikertHistogram of(long... counts) {
+        if (counts.length != K)
+            throw new IllegalArgumentException("Expected " + K + " counts");
+        LikertHistogram h = new LikertHistogram();
+        for (int i = 0; i < K; i++) {
+            if (counts[i] < 0)
+                throw new IllegalArgumentException("Negative count");
+            h.counts[i] = Math.toIntExact(counts[i]);
+        }
+        return h;
+    }
+
+    public void add(int value) {
+        if (value < MIN || value > MAX)
+            throw new IllegalArgumentException("Likert value out of range: " + value);
+        counts[value - MIN]++;
+    }
+
+    public void add(int value, int times) {
+        if (value < MIN || value > MAX)
+            throw new IllegalArgumentException("Likert value out of range: " + value);
+        counts[value - MIN] += times;
+    }
+
+    public int count(int value) {
+        return counts[value - MIN];
+    }
+
+    public int[] counts() {
+        return counts.clone();
+    }
+
+    /**
+     * Kennzahlen in einem Durchlauf. Median: Mittel der beiden mittleren
+     * Ränge bei geradem n. Modus: kleinster Wert mit maximaler Häufigkeit.
+     * Top-2-Box: Anteil der Werte 4 und 5. Standardabweichung: Population.
+     */
+    public Summary summarize() {
+        long n = 0, sum = 0, sumSq = 0;
+        int mode = 0, modeCount = 0;
+        for (int i = 0; i < K; i++) {
+            int c = counts[i];
+            int v = i + MIN;
+            n += c;
+            sum += (long) c * v;
+            sumSq += (long) c * v * v;
+            if (c > modeCount) {
+                modeCount = c;
+                mode = v;
+            }
+        }
+        if (n == 0)
+            return new Summary(0, new double[K], 0.0, 0.0, 0, 0.0, 0.0);
+
+        // Median über kumulierte Häufigkeiten (0-basierte Ränge lo/hi)
+        long lo = (n - 1) / 2, hi = n / 2;
+        int loVal = 0, hiVal = 0;
+        long cum = 0;
+        double[] dist = new double[K];
+        for (int i = 0; i < K; i++) {
+            long next = cum + counts[i];
+            if (loVal == 0 && lo < next)
+                loVal = i + MIN;
+            if (hiVal == 0 && hi < next)
+                hiVal = i + MIN;
+            dist[i] = (double) counts[i] / n;
+            cum = next;
+        }
+
+        double mean = (double) sum / n;
+        double variance = Math.max(0.0, (double) sumSq / n - mean * mean);
+        double top2 = (double) (counts[K - 2] + counts[K - 1]) / n;
+        return new Summary(n, dist, mean, (loVal + hiVal) / 2.0, mode, Math.sqrt(variance), top2);
+    }
+
+    public record Summary(long n, double[] distribution, double mean, double median, int mode,
+            double stddev, double top2Box) {
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LikertHistogram h && Arrays.equals(counts, h.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "LikertHistogram" + Arrays.toString(counts);
+    }
+}
@@ -0,0 +1,39 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/domain/PackedAnswers.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+/**
+ * Ein Byte je Frage (Position i = answer_order i), 0 = unbeantwortet.
+ * Format von {@code survey_responses.answers_packed}.
+ */
+public final class PackedAnswers {
+
+    private PackedAnswers() {
+    }
+
+    public static byte[] pack(short[] values) {
+        byte[] packed = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            short v = values[i];
+            if (v < 0 || v > LikertHistogram.MAX)
+                throw new IllegalArgumentException("Likert value out of range: " + v);
+            packed[i] = (byte) v;
+        }
+        return packed;
+    }
+
+    /** Entpackt in {@code target} (fehlende Positionen → 0). */
+    public static short[] unpack(byte[] packed, short[] target) {
+        int n = packed == null ? 0 : Math.min(packed.length, target.length);
+        for (int i = 0; i < n; i++) {
+            target[i] = (short) (packed[i] & 0xFF);
+        }
+        for (int i = n; i < target.length; i++) {
+            target[i] = 0;
+        }
+        return target;
+    }
+
+    public static short[] unpack(byte[] packed, int questionCount) {
+        return unpack(packed, new short[questionCount]);
+    }
+}
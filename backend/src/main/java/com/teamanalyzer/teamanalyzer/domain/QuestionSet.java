@@ -0,0 +1,75 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/domain/QuestionSet.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Unveränderliche, kompakte Sicht auf die Fragen eines Surveys (sortiert nach
+ * idx): IDs als zwei {@code long[]}, idx als {@code short[]}, Texte als
+ * {@code String[]} – keine Entities, kein Persistence Context.
+ */
+public final class QuestionSet {
+
+    public static final QuestionSet EMPTY = new QuestionSet(new long[0], new long[0], new short[0], new String[0]);
+
+    private final long[] idMsb;
+    private final long[] idLsb;
+    private final short[] idx;
+    private final String[] texts;
+
+    private QuestionSet(long[] idMsb, long[] idLsb, short[] idx, String[] texts) {
+        this.idMsb = idMsb;
+        this.idLsb = idLsb;
+        this.idx = idx;
+        this.texts = texts;
+    }
+
+    /** Aus bereits nach idx sortierten Fragen. */
+    public static QuestionSet of(List<SurveyQuestion> questions) {
+        int n = questions.size();
+        if (n == 0)
+            return EMPTY;
+        long[] msb = new long[n];
+        long[] lsb = new long[n];
+        short[] idx = new short[n];
+        String[] texts = new String[n];
+        for (int i = 0; i < n; i++) {
+            SurveyQuestion q = questions.get(i);
+            msb[i] = q.getId().getMostSignificantBits();
+            lsb[i] = q.getId().getLeastSignificantBits();
+            idx[i] = q.getIdx();
+            texts[i] = q.getText();
+        }
+        return new QuestionSet(msb, lsb, idx, texts);
+    }
+
+    public int size() {
+        return idx.length;
+    }
+
+    public boolean isEmpty() {
+        return idx.length == 0;
+    }
+
+    public UUID id(int i) {
+        return new UUID(idMsb[i], idLsb[i]);
+    }
+
+    public short idx(int i) {
+        return idx[i];
+    }
+
+    public String text(int i) {
+        return texts[i];
+    }
+
+    /** IDs in idx-Reihenfolge (neues Array je Aufruf). */
+    public UUID[] ids() {
+        UUID[] ids = new UUID[idx.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = id(i);
+        }
+        return ids;
+    }
+}
@@ -1,6 +1,7 @@
 // backend/src/main/java/com/teamanalyzer/teamanalyzer/domain/Survey.java
 package com.teamanalyzer.teamanalyzer.domain;
 
+import java.time.Instant;
 import java.util.*;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -19,6 +20,13 @@ public class Survey extends UuidEntity {
     @Column(nullable = false, length = 300)
     private String title;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private SurveyStatus status = SurveyStatus.OPEN;
+
+    @Column(name = "closed_at")
+    private Instant closedAt;
+
     @OneToMany(mappedBy = "survey", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("idx ASC")
     private final List<SurveyQuestion> questions = new ArrayList<>();
@@ -44,6 +52,10 @@ public class Survey extends UuidEntity {
         return s;
     }
 
+    public boolean isClosed() {
+        return status == SurveyStatus.CLOSED;
+    }
+
     // nur ID-Referenz ohne DB-Load
     public static Survey ref(UUID id) {
         Survey s = new Survey();
@@ -4,6 +4,8 @@ package com.teamanalyzer.teamanalyzer.domain;
 import java.util.List;
 
 public final class SurveyAnalytics {
+    private static final int Q = 5;
+
     private SurveyAnalytics() {
     }
 
@@ -11,14 +13,24 @@ public final class SurveyAnalytics {
      * Berechnet Durchschnitte für die ersten 5 Fragen (idx 1..5) über alle
      * Responses.
      * Nutzt die relationale Struktur: SurveyResponse -> SurveyAnswer ->
-     * SurveyQuestion(idx).
+     * SurveyQuestion(idx); ohne Antwortzeilen die gepackte Spalte.
      */
     public static double[] averages(List<SurveyResponse> responses) {
-        final int Q = 5;
-        double[] sum = new double[Q];
-        int[] cnt = new int[Q];
+        long[] sum = new long[Q];
+        long[] cnt = new long[Q];
 
         for (SurveyResponse r : responses) {
+            if (r.getAnswers().isEmpty()) {
+                // gepackte Ablage: Position i = idx i + 1
+                short[] v = r.answerValues(Q);
+                for (int i = 0; i < Q; i++) {
+                    if (v[i] != 0) {
+                        sum[i] += v[i];
+                        cnt[i] += 1;
+                    }
+                }
+                continue;
+            }
             for (SurveyAnswer a : r.getAnswers()) {
                 var q = a.getQuestion();
                 if (q == null)
@@ -30,11 +42,50 @@ public final class SurveyAnalytics {
                 }
             }
         }
+        return averages(sum, cnt);
+    }
 
+    /**
+     * Durchschnitte aus bereits aggregierten Summen/Anzahlen je Frage
+     * (Position 0 = idx 1), z. B. aus einer GROUP-BY-Abfrage.
+     */
+    public static double[] averages(long[] sums, long[] counts) {
         double[] avg = new double[Q];
         for (int i = 0; i < Q; i++) {
-            avg[i] = (cnt[i] == 0) ? 0.0 : (sum[i] / cnt[i]);
+            avg[i] = (counts[i] == 0) ? 0.0 : ((double) sums[i] / counts[i]);
         }
         return avg;
     }
+
+    /**
+     * Likert-Histogramme je Frage (Position 0 = idx 1) über alle Responses;
+     * Werte außerhalb 1..5 werden ignoriert.
+     */
+    public static LikertHistogram[] histograms(List<SurveyResponse> responses) {
+        LikertHistogram[] h = new LikertHistogram[Q];
+        for (int i = 0; i < Q; i++)
+            h[i] = new LikertHistogram();
+
+        for (SurveyResponse r : responses) {
+            if (r.getAnswers().isEmpty()) {
+                short[] v = r.answerValues(Q);
+                for (int i = 0; i < Q; i++) {
+                    if (v[i] >= LikertHistogram.MIN && v[i] <= LikertHistogram.MAX)
+                        h[i].add(v[i]);
+                }
+                continue;
+            }
+            for (SurveyAnswer a : r.getAnswers()) {
+                var q = a.getQuestion();
+                if (q == null)
+                    continue;
+                int idx = q.getIdx();
+                short v = a.getValue();
+                if (idx >= 1 && idx <= Q && v >= LikertHistogram.MIN && v <= LikertHistogram.MAX) {
+                    h[idx - 1].add(v);
+                }
+            }
+        }
+        return h;
+    }
 }
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@TimeOrderedId
 @Getter
 @Setter
 @Table(name = "survey_answers", uniqueConstraints = @UniqueConstraint(name = "uq_response_question", columnNames = {
@@ -0,0 +1,95 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/domain/SurveyQuestionStats.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Read-Model: laufend gepflegte Summe, Anzahl und Likert-Histogramm (1..5)
+ * je Survey/Frage. Wird bei jeder Abgabe in derselben Tx fortgeschrieben,
+ * damit Ergebnisse in O(Fragen) statt O(Antworten) gelesen werden können.
+ */
+@Entity
+@Getter
+@Table(name = "survey_question_stats")
+public class SurveyQuestionStats {
+
+    @EmbeddedId
+    @Setter(AccessLevel.NONE)
+    private SurveyQuestionStatsKey id;
+
+    @Column(name = "answer_count", nullable = false)
+    private long answerCount;
+
+    @Column(name = "answer_sum", nullable = false)
+    private long answerSum;
+
+    @Column(name = "h1", nullable = false)
+    private long h1;
+
+    @Column(name = "h2", nullable = false)
+    private long h2;
+
+    @Column(name = "h3", nullable = false)
+    private long h3;
+
+    @Column(name = "h4", nullable = false)
+    private long h4;
+
+    @Column(name = "h5", nullable = false)
+    private long h5;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private Instant updatedAt;
+
+    protected SurveyQuestionStats() {
+    }
+
+    public static SurveyQuestionStats empty(UUID surveyId, short idx) {
+        SurveyQuestionStats s = new SurveyQuestionStats();
+        s.id = new SurveyQuestionStatsKey(surveyId, idx);
+        return s;
+    }
+
+    /** Einzelne Antwort einrechnen (nur für neu angelegte Zeilen). */
+    public void add(short value) {
+        answerCount++;
+        answerSum += value;
+        switch (value) {
+            case 1 -> h1++;
+            case 2 -> h2++;
+            case 3 -> h3++;
+            case 4 -> h4++;
+            case 5 -> h5++;
+            default -> throw new IllegalArgumentException("Likert value out of range: " + value);
+        }
+    }
+
+    /** Histogramm (Position 0 = Wert 1) einrechnen (nur für neu angelegte Zeilen). */
+    public void add(long[] histogram) {
+        for (int v = 1; v <= histogram.length; v++) {
+            long n = histogram[v - 1];
+            answerCount += n;
+            answerSum += n * v;
+        }
+        h1 += histogram[0];
+        h2 += histogram[1];
+        h3 += histogram[2];
+        h4 += histogram[3];
+        h5 += histogram[4];
+    }
+
+    public short getIdx() {
+        return id.getIdx();
+    }
+
+    /** Häufigkeiten der Werte 1..5 (Position 0 = Wert 1). */
+    public long[] histogram() {
+        return new long[] { h1, h2, h3, h4, h5 };
+    }
+}
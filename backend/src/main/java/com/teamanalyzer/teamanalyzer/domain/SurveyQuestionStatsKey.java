@@ -0,0 +1,27 @@
+package com.teamanalyzer.teamanalyzer.domain;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SurveyQuestionStatsKey implements Serializable {
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "survey_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID surveyId;
+
+    @Column(name = "idx", nullable = false)
+    private short idx;
+}
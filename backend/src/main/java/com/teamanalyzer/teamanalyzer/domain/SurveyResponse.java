@@ -7,6 +7,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 
 @Entity
+@TimeOrderedId
 @Getter
 @Table(name = "survey_responses")
 public class SurveyResponse extends UuidEntity {
@@ -22,6 +23,10 @@ public class SurveyResponse extends UuidEntity {
     @OrderBy("answerOrder ASC")
     private final List<SurveyAnswer> answers = new ArrayList<>();
 
+    /** Kompakte Ablage (vgl. {@link PackedAnswers}); null bei reiner Zeilenablage. */
+    @Column(name = "answers_packed")
+    private byte[] answersPacked;
+
     protected SurveyResponse() {
     }
 
@@ -67,12 +72,39 @@ public class SurveyResponse extends UuidEntity {
      * Wert nach Frage-Index (idx) – nützlich, wenn UI feste Reihenfolge erwartet
      */
     public Optional<Short> findValueByIdx(int idx) {
+        if (answers.isEmpty() && answersPacked != null) {
+            int i = idx - 1;
+            return (i >= 0 && i < answersPacked.length && answersPacked[i] != 0)
+                    ? Optional.of((short) (answersPacked[i] & 0xFF))
+                    : Optional.empty();
+        }
         return answers.stream()
                 .filter(a -> a.getQuestion() != null && a.getQuestion().getIdx() == idx)
                 .map(SurveyAnswer::getValue)
                 .findFirst();
     }
 
+    /** Antworten gepackt ablegen ({@code values[i]} = Frage idx i + 1). */
+    public void setPackedAnswers(short[] values) {
+        this.answersPacked = PackedAnswers.pack(values);
+    }
+
+    /**
+     * Werte je Position (answer_order) unabhängig von der Ablage; Zeilen
+     * haben Vorrang, sonst die gepackte Spalte. 0 = unbeantwortet.
+     */
+    public short[] answerValues(int questionCount) {
+        if (answers.isEmpty())
+            return PackedAnswers.unpack(answersPacked, questionCount);
+        short[] values = new short[questionCount];
+        for (SurveyAnswer a : answers) {
+            Integer i = a.getAnswerOrder();
+            if (i != null && i >= 0 && i < questionCount)
+                values[i] = a.getValue();
+        }
+        return values;
+    }
+
     /** Optional: sortierte Sicht nach question.idx (falls benötigt) */
     public List<SurveyAnswer> getAnswersSortedByQuestionIdx() {
         return answers.stream()
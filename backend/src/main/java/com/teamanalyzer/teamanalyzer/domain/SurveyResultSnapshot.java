@@ -0,0 +1,137 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/domain/SurveyResultSnapshot.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * Eingefrorene Ergebnisse eines geschlossenen Surveys. Kompakt gepackt:
+ * Histogramme als {@code questionCount × 5} Ints, Einzelantworten als
+ * {@code 16 Byte id + 8 Byte created_at + questionCount Byte} je Abgabe
+ * (in created_at/id-Reihenfolge). Wird genau einmal geschrieben.
+ */
+@Entity
+@Immutable
+@Getter
+@Table(name = "survey_result_snapshots")
+public class SurveyResultSnapshot {
+
+    private static final int K = LikertHistogram.MAX - LikertHistogram.MIN + 1;
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "survey_id", nullable = false, updatable = false, columnDefinition = "BINARY(16)")
+    private UUID surveyId;
+
+    @Column(name = "response_count", nullable = false)
+    private int responseCount;
+
+    @Column(name = "question_count", nullable = false)
+    private short questionCount;
+
+    @Column(name = "histograms", nullable = false, columnDefinition = "VARBINARY(1024)")
+    private byte[] histograms;
+
+    @JdbcTypeCode(SqlTypes.LONG32VARBINARY)
+    @Column(name = "items", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] items;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private Instant createdAt;
+
+    protected SurveyResultSnapshot() {
+    }
+
+    /** Callback je eingefrorener Abgabe; {@code answers} wird wiederverwendet. */
+    @FunctionalInterface
+    public interface ItemVisitor {
+        void visit(UUID responseId, Instant createdAt, short[] answers) throws IOException;
+    }
+
+    public LikertHistogram[] histogramsPerQuestion() {
+        ByteBuffer bb = ByteBuffer.wrap(histograms);
+        LikertHistogram[] h = new LikertHistogram[questionCount];
+        long[] counts = new long[K];
+        for (int q = 0; q < questionCount; q++) {
+            for (int v = 0; v < K; v++)
+                counts[v] = bb.getInt();
+            h[q] = LikertHistogram.of(counts);
+        }
+        return h;
+    }
+
+    public void forEachItem(ItemVisitor visitor) throws IOException {
+        int stride = 16 + 8 + questionCount;
+        ByteBuffer bb = ByteBuffer.wrap(items);
+        short[] answers = new short[questionCount];
+        while (bb.remaining() >= stride) {
+            UUID id = new UUID(bb.getLong(), bb.getLong());
+            Instant ts = Instant.ofEpochMilli(bb.getLong());
+            for (int i = 0; i < questionCount; i++)
+                answers[i] = bb.get();
+            visitor.visit(id, ts, answers);
+        }
+    }
+
+    public static Builder builder(UUID surveyId, int questionCount) {
+        return new Builder(surveyId, questionCount);
+    }
+
+    /** Sammelt Abgaben (in Lese-Reihenfolge) und zählt die Histogramme mit. */
+    public static final class Builder {
+        private final UUID surveyId;
+        private final int questionCount;
+        private final LikertHistogram[] hist;
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final ByteBuffer row;
+        private int responses;
+
+        private Builder(UUID surveyId, int questionCount) {
+            this.surveyId = surveyId;
+            this.questionCount = questionCount;
+            this.hist = new LikertHistogram[questionCount];
+            for (int i = 0; i < questionCount; i++)
+                hist[i] = new LikertHistogram();
+            this.row = ByteBuffer.allocate(16 + 8 + questionCount);
+        }
+
+        public Builder add(UUID responseId, Instant createdAt, short[] answers) {
+            row.clear();
+            row.putLong(responseId.getMostSignificantBits()).putLong(responseId.getLeastSignificantBits());
+            row.putLong(createdAt != null ? createdAt.toEpochMilli() : 0L);
+            for (int i = 0; i < questionCount; i++) {
+                short v = i < answers.length ? answers[i] : 0;
+                row.put((byte) v);
+                if (v >= LikertHistogram.MIN && v <= LikertHistogram.MAX)
+                    hist[i].add(v);
+            }
+            out.write(row.array(), 0, row.position());
+            responses++;
+            return this;
+        }
+
+        public SurveyResultSnapshot build() {
+            ByteBuffer hb = ByteBuffer.allocate(questionCount * K * Integer.BYTES);
+            for (LikertHistogram h : hist)
+                for (int c : h.counts())
+                    hb.putInt(c);
+            SurveyResultSnapshot s = new SurveyResultSnapshot();
+            s.surveyId = surveyId;
+            s.responseCount = responses;
+            s.questionCount = (short) questionCount;
+            s.histograms = hb.array();
+            s.items = out.toByteArray();
+            return s;
+        }
+    }
+}
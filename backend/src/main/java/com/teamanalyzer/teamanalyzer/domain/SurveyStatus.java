@@ -0,0 +1,5 @@
+package com.teamanalyzer.teamanalyzer.domain;
+
+public enum SurveyStatus {
+    OPEN, CLOSED
+}
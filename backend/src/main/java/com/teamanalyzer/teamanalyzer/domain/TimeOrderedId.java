@@ -0,0 +1,22 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/domain/TimeOrderedId.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opt-in je {@link UuidEntity}: neue IDs als zeitlich geordnete UUIDv7
+ * ({@link TimeOrderedUuid}) statt zufälliger v4. Sinnvoll für
+ * schreibintensive Tabellen (BINARY(16)-PK = Clustered Index in InnoDB).
+ * Bestehende Zeilen bleiben unverändert; beide Varianten koexistieren.
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,64 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/domain/TimeOrderedUuid.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 (RFC 9562): 48 Bit Unix-Millisekunden, 12 Bit Sequenz
+ * ({@code rand_a}, monoton je JVM), 62 Bit Zufall. Big-endian als
+ * BINARY(16) gespeichert (vgl. {@code UuidBytes}) sortiert damit nach
+ * Erzeugungszeit – neue Zeilen landen am Ende des Clustered Index statt
+ * verstreut.
+ *
+ * <p>
+ * Der Zufallsteil ist nicht kryptographisch; IDs sind keine Geheimnisse
+ * (Tokens werden separat erzeugt).
+ */
+public final class TimeOrderedUuid {
+
+    private static final int SEQ_BITS = 12;
+
+    /** Zuletzt vergebener Stand: (Millisekunden << 12) | Sequenz. */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long epochMillis) {
+        long candidate = epochMillis << SEQ_BITS;
+        // gleiche Millisekunde oder Uhr zurückgestellt → Sequenz hochzählen
+        // (Überlauf trägt in die nächste Millisekunde)
+        long state = LAST.accumulateAndGet(candidate, (last, c) -> c > last ? c : last + 1);
+        long millis = state >>> SEQ_BITS;
+        long seq = state & ((1L << SEQ_BITS) - 1);
+
+        long msb = (millis << 16) | 0x7000L | seq;
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    /** Zeitstempel einer v7-ID in Unix-Millisekunden. */
+    public static long epochMillis(UUID id) {
+        if (id.version() != 7)
+            throw new IllegalArgumentException("Not a version 7 UUID: " + id);
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    /** Neue ID für eine Entity-Klasse: v7 bei {@link TimeOrderedId}, sonst v4. */
+    static UUID forType(Class<?> type) {
+        return TIME_ORDERED.get(type) ? next() : UUID.randomUUID();
+    }
+
+    private static final ClassValue<Boolean> TIME_ORDERED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(TimeOrderedId.class);
+        }
+    };
+}
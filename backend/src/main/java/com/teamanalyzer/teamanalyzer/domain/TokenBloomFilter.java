@@ -0,0 +1,93 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/domain/TokenBloomFilter.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom-Filter über SHA-256-Token-Hashes. Die Hashes sind bereits
+ * gleichverteilt, daher werden die k Bitpositionen direkt aus ihnen
+ * abgeleitet (Double Hashing, h1 + i·h2) – kein weiteres Hashing.
+ * Thread-sicher; „nein“ ist sicher, „vielleicht“ mit Rate ≈ fpp, solange
+ * höchstens {@code capacity} Einträge hinzugefügt wurden.
+ */
+public final class TokenBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashes;
+    private final int capacity;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public TokenBloomFilter(int capacity, double fpp) {
+        if (capacity < 1 || fpp <= 0 || fpp >= 1)
+            throw new IllegalArgumentException("capacity >= 1 and 0 < fpp < 1 required");
+        long m = (long) Math.ceil(-capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+        this.hashes = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+        this.capacity = capacity;
+    }
+
+    public void add(byte[] sha256) {
+        long h1 = h1(sha256);
+        long h2 = h2(sha256);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long cur;
+            while (((cur = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, cur, cur | mask)) {
+                // CAS-Retry
+            }
+        }
+        size.incrementAndGet();
+    }
+
+    public boolean mightContain(byte[] sha256) {
+        long h1 = h1(sha256);
+        long h2 = h2(sha256);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /** Über {@code capacity} steigt die Fehlerrate – dann neu aufbauen. */
+    public boolean isSaturated() {
+        return size.get() > capacity;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashes() {
+        return hashes;
+    }
+
+    private static long h1(byte[] h) {
+        return readLong(h, 0);
+    }
+
+    /** Ungerade, damit die Schrittweite nie 0 ist. */
+    private static long h2(byte[] h) {
+        return readLong(h, 8) | 1L;
+    }
+
+    private static long readLong(byte[] h, int off) {
+        if (h == null || h.length < off + 8)
+            throw new IllegalArgumentException("SHA-256 hash expected");
+        long v = 0;
+        for (int i = off; i < off + 8; i++) {
+            v = (v << 8) | (h[i] & 0xFF);
+        }
+        return v;
+    }
+}
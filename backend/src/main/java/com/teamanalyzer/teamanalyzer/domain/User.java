@@ -50,6 +50,10 @@ public class User extends UuidEntity {
     @Column(name = "reset_token_created")
     private Instant resetTokenCreated;
 
+    /** Nur per {@code UserRepository.bumpClaimsVersion} geschrieben. */
+    @Column(name = "claims_version", nullable = false, insertable = false, updatable = false)
+    private int claimsVersion;
+
     protected User() {
         /* for JPA */ }
 
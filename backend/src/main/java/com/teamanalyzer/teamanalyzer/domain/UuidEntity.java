@@ -19,7 +19,7 @@ public abstract class UuidEntity {
   @Setter(AccessLevel.PROTECTED)
   @JdbcTypeCode(SqlTypes.BINARY)
   @Column(name = "id", nullable = false, updatable = false, columnDefinition = "BINARY(16)")
-  private UUID id = UUID.randomUUID();
+  private UUID id; // v7 bei @TimeOrderedId, sonst v4; beim Laden setzt Hibernate das Feld direkt
 
   @Column(name = "created_at", insertable = false, updatable = false, nullable = false)
   private Instant createdAt;
@@ -31,10 +31,19 @@ public abstract class UuidEntity {
   @Column(name = "version", nullable = false)
   private long version;
 
+  /**
+   * ID neuer Entities wird erst beim ersten Zugriff bzw. vor dem Persist
+   * vergeben, nicht bei jeder Instanziierung durch Hibernate.
+   */
+  public UUID getId() {
+    ensureId();
+    return id;
+  }
+
   @PrePersist
   void ensureId() {
     if (id == null)
-      id = UUID.randomUUID();
+      id = TimeOrderedUuid.forType(getClass());
   }
 
   @Override
@@ -46,11 +55,11 @@ public abstract class UuidEntity {
     if (Hibernate.getClass(this) != Hibernate.getClass(o))
       return false;
     UuidEntity other = (UuidEntity) o;
-    return id != null && id.equals(other.id);
+    return getId().equals(other.getId());
   }
 
   @Override
   public final int hashCode() {
-    return (id != null) ? id.hashCode() : 0;
+    return getId().hashCode();
   }
 }
@@ -18,6 +18,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.teamanalyzer.teamanalyzer.security.AuthUser;
+import com.teamanalyzer.teamanalyzer.security.JwtAuthCache;
+import com.teamanalyzer.teamanalyzer.security.TeamClaims;
+import com.teamanalyzer.teamanalyzer.security.TeamClaimsVersions;
 import com.teamanalyzer.teamanalyzer.service.JwtService;
 
 import jakarta.servlet.FilterChain;
@@ -37,9 +40,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private static final String ROLE_PREFIX = "ROLE_";
 
     private final JwtService jwtService;
+    private final JwtAuthCache authCache;
+    private final TeamClaimsVersions claimsVersions;
 
-    public JwtAuthFilter(JwtService jwtService) {
+    public JwtAuthFilter(JwtService jwtService, JwtAuthCache authCache, TeamClaimsVersions claimsVersions) {
         this.jwtService = jwtService;
+        this.authCache = authCache;
+        this.claimsVersions = claimsVersions;
     }
 
     @Override
@@ -65,20 +72,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         try {
-            JWTClaimsSet claims = jwtService.validate(token);
-
-            String email = extractEmail(claims);
-            UUID userId = parseUuidOrNull(readUidAsString(claims));
-            List<String> roles = extractRoleNames(claims);
-
-            var authorities = roles.stream()
-                    .map(JwtAuthFilter::ensureRolePrefix)
-                    .map(SimpleGrantedAuthority::new)
-                    .toList();
-
-            var principal = new AuthUser(userId, email, roles);
-            var authentication = new UsernamePasswordAuthenticationToken(principal, null, authorities);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            // Wiederholte Requests mit demselben Token: kein Parse/HMAC bis exp
+            JwtAuthCache.Entry auth = authCache.get(token, () -> authenticate(token));
+            TeamClaims teams = auth.principal().teams();
+            if (teams != null && claimsVersions.isStale(auth.principal().userId(), teams)) {
+                // Mitgliedschaft seit Ausstellung geändert → unauthentifiziert (401 → Refresh)
+                LOG.debug("Stale team claims for {}", req.getRequestURI());
+            } else {
+                var authentication = new UsernamePasswordAuthenticationToken(auth.principal(), null,
+                        auth.authorities());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
 
         } catch (ParseException pe) {
             // Struktur/Claims nicht lesbar → Debug-Info mit URI
@@ -91,6 +95,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         chain.doFilter(req, res);
     }
 
+    private JwtAuthCache.Entry authenticate(String token) throws ParseException {
+        JWTClaimsSet claims = jwtService.validate(token);
+
+        String email = extractEmail(claims);
+        UUID userId = parseUuidOrNull(readUidAsString(claims));
+        List<String> roles = extractRoleNames(claims);
+
+        var authorities = roles.stream()
+                .map(JwtAuthFilter::ensureRolePrefix)
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+
+        var principal = new AuthUser(userId, email, roles, userId != null ? extractTeamClaims(claims) : null);
+        return new JwtAuthCache.Entry(principal, authorities, claims.getExpirationTime().toInstant());
+    }
+
     private static String extractEmail(JWTClaimsSet claims) throws ParseException {
         String subject = claims.getSubject();
         if (subject != null && !subject.isBlank()) {
@@ -101,6 +121,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         return (email != null && !email.isBlank()) ? email : null;
     }
 
+    /** {@code null}, wenn das Token keine Team-Claims trägt. */
+    private static TeamClaims extractTeamClaims(JWTClaimsSet claims) throws ParseException {
+        Integer version = claims.getIntegerClaim(TeamClaims.CLAIM_VERSION);
+        if (version == null)
+            return null;
+        List<String> teams = claims.getStringListClaim(TeamClaims.CLAIM_TEAMS);
+        List<String> leaderOf = claims.getStringListClaim(TeamClaims.CLAIM_LEADER);
+        if (teams == null || leaderOf == null)
+            return null;
+        try {
+            return new TeamClaims(version, TeamClaims.decode(teams), TeamClaims.decode(leaderOf));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException("Invalid team claims", 0);
+        }
+    }
+
     private static String readUidAsString(JWTClaimsSet claims) throws ParseException {
         // bevorzugt String-Claim; fällt andernfalls auf generischen Claim zurück
         try {
@@ -7,17 +7,30 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.util.Base64;
 import java.nio.charset.StandardCharsets;
 
+/**
+ * HMAC-SHA256 für Download-Tokens. {@link Mac} ist nicht thread-sicher,
+ * daher eine Instanz je Thread (Klon der initialisierten Vorlage, kein
+ * Lock, kein erneutes Key-Setup). Vergleich in konstanter Zeit über die
+ * rohen Signatur-Bytes.
+ */
 @Component
 public class HmacTokenSigner implements TokenSigner {
-    private final Mac mac;
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Mac prototype;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::newMac);
 
     public HmacTokenSigner(@Value("${app.download-token-secret}") String secret) {
         try {
-            mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+            prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(key);
         } catch (Exception e) {
             throw new IllegalStateException("Cannot init HMAC", e);
         }
@@ -25,12 +38,40 @@ public class HmacTokenSigner implements TokenSigner {
 
     @Override
     public String signUrlSafe(String payloadB64) {
-        byte[] s = mac.doFinal(payloadB64.getBytes(StandardCharsets.UTF_8));
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(s);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payloadB64));
     }
 
     @Override
     public boolean matches(String payloadB64, String expected) {
-        return signUrlSafe(payloadB64).equals(expected);
+        if (expected == null)
+            return false;
+        final byte[] given;
+        try {
+            given = Base64.getUrlDecoder().decode(expected);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(payloadB64), given);
+    }
+
+    private byte[] sign(String payloadB64) {
+        // doFinal setzt die Instanz zurück → direkt wiederverwendbar
+        return mac.get().doFinal(payloadB64.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            synchronized (prototype) {
+                return (Mac) prototype.clone();
+            }
+        } catch (CloneNotSupportedException e) {
+            try {
+                Mac m = Mac.getInstance(ALGORITHM);
+                m.init(key);
+                return m;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("Cannot init HMAC", ex);
+            }
+        }
     }
 }
@@ -1,7 +1,14 @@
 // backend/src/main/java/com/teamanalyzer/teamanalyzer/infra/mail/SpringMailSenderAdapter.java
 package com.teamanalyzer.teamanalyzer.infra.mail;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.teamanalyzer.teamanalyzer.port.EmailSender;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
@@ -16,10 +23,48 @@ public class SpringMailSenderAdapter implements EmailSender {
 
   @Override
   public void send(String to, String subject, String text) {
+    delegate.send(message(to, subject, text));
+  }
+
+  /**
+   * Ein {@code send(...)}-Aufruf je Bündel: JavaMailSenderImpl öffnet dafür
+   * genau eine SMTP-Verbindung. Teilfehler kommen als
+   * {@link MailSendException#getFailedMessages()} zurück.
+   */
+  @Override
+  public Map<Integer, Exception> sendAll(List<Mail> mails) {
+    SimpleMailMessage[] msgs = new SimpleMailMessage[mails.size()];
+    Map<Object, Integer> index = new IdentityHashMap<>();
+    for (int i = 0; i < msgs.length; i++) {
+      Mail m = mails.get(i);
+      msgs[i] = message(m.to(), m.subject(), m.text());
+      index.put(msgs[i], i);
+    }
+    Map<Integer, Exception> failed = new HashMap<>();
+    try {
+      delegate.send(msgs);
+    } catch (MailSendException ex) {
+      if (ex.getFailedMessages().isEmpty()) {
+        for (int i = 0; i < msgs.length; i++)
+          failed.put(i, ex);
+      }
+      ex.getFailedMessages().forEach((msg, cause) -> {
+        Integer i = index.get(msg);
+        if (i != null)
+          failed.put(i, cause);
+      });
+    } catch (MailException ex) {
+      for (int i = 0; i < msgs.length; i++)
+        failed.put(i, ex);
+    }
+    return failed;
+  }
+
+  private static SimpleMailMessage message(String to, String subject, String text) {
     SimpleMailMessage msg = new SimpleMailMessage();
     msg.setTo(to);
     msg.setSubject(subject);
     msg.setText(text);
-    delegate.send(msg);
+    return msg;
   }
 }
@@ -0,0 +1,61 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/infra/security/BcryptCost.java
+package com.teamanalyzer.teamanalyzer.infra.security;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * bcrypt-Kostenfaktor (log2 der Runden, 4..31). Der Hash selbst trägt
+ * Algorithmus und Kosten ({@code $2a$12$…}); {@link #of(String)} liest sie
+ * daraus, ein eigenes Feld ist nicht nötig.
+ */
+public record BcryptCost(int strength) {
+
+    static final int MIN = 4;
+    static final int MAX = 31;
+    private static final Pattern HASH = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$[./A-Za-z0-9]{53}$");
+
+    public BcryptCost {
+        if (strength < MIN || strength > MAX)
+            throw new IllegalArgumentException("bcrypt strength out of range: " + strength);
+    }
+
+    /** Kosten aus einem bcrypt-Hash; leer bei anderem/ungültigem Format. */
+    public static OptionalInt of(String hash) {
+        if (hash == null)
+            return OptionalInt.empty();
+        Matcher m = HASH.matcher(hash);
+        return m.matches() ? OptionalInt.of(Integer.parseInt(m.group(1))) : OptionalInt.empty();
+    }
+
+    /**
+     * Misst einen Hash bei {@code min} (bestes von {@code samples}) und
+     * wählt die höchste Stufe, deren geschätzte Dauer (jede Stufe
+     * verdoppelt) im Budget liegt; mindestens {@code min}, höchstens
+     * {@code max}.
+     */
+    public static BcryptCost calibrate(Duration budget, int min, int max, int samples) {
+        var probe = new BCryptPasswordEncoder(min);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < Math.max(1, samples); i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return new BcryptCost(pick(best, budget.toNanos(), min, max));
+    }
+
+    static int pick(long nanosAtMin, long budgetNanos, int min, int max) {
+        int strength = min;
+        long estimate = Math.max(1, nanosAtMin);
+        while (strength < max && estimate * 2 <= budgetNanos) {
+            estimate *= 2;
+            strength++;
+        }
+        return strength;
+    }
+}
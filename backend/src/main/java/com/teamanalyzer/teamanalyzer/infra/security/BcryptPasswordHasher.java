@@ -8,13 +8,31 @@ import org.springframework.stereotype.Component;
 @Component
 public class BcryptPasswordHasher implements PasswordHasher {
     private final PasswordEncoder encoder;
+    private final BcryptCost cost;
 
-    public BcryptPasswordHasher(PasswordEncoder encoder) {
+    public BcryptPasswordHasher(PasswordEncoder encoder, BcryptCost cost) {
         this.encoder = encoder;
+        this.cost = cost;
     }
 
     @Override
     public String hash(String raw) {
         return encoder.encode(raw);
     }
+
+    @Override
+    public boolean matches(String raw, String hash) {
+        return encoder.matches(raw, hash);
+    }
+
+    /**
+     * Kosten unter dem Ziel oder kein bcrypt-Hash. Nie herabstufen: im Modus
+     * {@code calibrated} misst jeder Knoten eigene Kosten, ein Hash würde
+     * sonst bei abwechselnden Logins hin- und hergerechnet.
+     */
+    @Override
+    public boolean needsRehash(String hash) {
+        var current = BcryptCost.of(hash);
+        return current.isEmpty() || current.getAsInt() < cost.strength();
+    }
 }
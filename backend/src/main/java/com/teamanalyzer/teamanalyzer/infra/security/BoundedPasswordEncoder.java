@@ -0,0 +1,111 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/infra/security/BoundedPasswordEncoder.java
+package com.teamanalyzer.teamanalyzer.infra.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.teamanalyzer.teamanalyzer.service.OverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Führt Hashen/Prüfen (bcrypt, CPU-gebunden) auf einem eigenen Pool mit
+ * {@code threads} Threads und begrenzter Queue aus, statt auf den
+ * Request-Threads. Volle Queue oder zu lange Wartezeit → sofort 503 mit
+ * {@code Retry-After}; ein Login-Ansturm belegt so höchstens
+ * {@code threads} Kerne und {@code threads + queueCapacity} Request-Threads.
+ * Metriken: {@code password.hashing{op}} (Dauer inkl. Warten) und
+ * {@code password.hashing.rejected}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor pool;
+    private final Duration timeout;
+    private final Duration retryAfter;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout,
+            Duration retryAfter, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+        this.pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "password-hashing");
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.pool.allowCoreThreadTimeOut(true);
+        this.encodeTimer = Timer.builder("password.hashing").tag("op", "encode").register(registry);
+        this.matchesTimer = Timer.builder("password.hashing").tag("op", "matches").register(registry);
+        this.rejected = Counter.builder("password.hashing.rejected").register(registry);
+        registry.gauge("password.hashing.queued", pool, p -> p.getQueue().size());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword); // nur Parsen, kein Hashen
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private <T> T run(Timer timer, Callable<T> work) {
+        long start = System.nanoTime();
+        Future<T> f;
+        try {
+            f = pool.submit(work);
+        } catch (RejectedExecutionException e) {
+            throw overloaded();
+        }
+        try {
+            T result = f.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (TimeoutException e) {
+            f.cancel(true);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            f.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re)
+                throw re;
+            if (e.getCause() instanceof Error err)
+                throw err;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private OverloadedException overloaded() {
+        rejected.increment();
+        return new OverloadedException("error.auth.busy", retryAfter);
+    }
+}
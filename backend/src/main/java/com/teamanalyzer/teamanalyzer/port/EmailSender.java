@@ -1,5 +1,31 @@
 package com.teamanalyzer.teamanalyzer.port;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface EmailSender {
     void send(String to, String subject, String text);
-}
\ No newline at end of file
+
+    record Mail(String to, String subject, String text) {
+    }
+
+    /**
+     * Mehrere Mails versenden; Adapter sollen dafür eine SMTP-Verbindung
+     * wiederverwenden.
+     *
+     * @return Fehler je Index in {@code mails} (leer = alle versendet)
+     */
+    default Map<Integer, Exception> sendAll(List<Mail> mails) {
+        Map<Integer, Exception> failed = new HashMap<>();
+        for (int i = 0; i < mails.size(); i++) {
+            Mail m = mails.get(i);
+            try {
+                send(m.to(), m.subject(), m.text());
+            } catch (RuntimeException ex) {
+                failed.put(i, ex);
+            }
+        }
+        return failed;
+    }
+}
@@ -3,4 +3,12 @@ package com.teamanalyzer.teamanalyzer.port;
 
 public interface PasswordHasher {
   String hash(String raw);
+
+  boolean matches(String raw, String hash);
+
+  /**
+   * Hash wurde mit anderem Algorithmus/anderen Kosten erzeugt als aktuell
+   * konfiguriert → nach erfolgreichem Login neu hashen.
+   */
+  boolean needsRehash(String hash);
 }
@@ -0,0 +1,127 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/MailOutboxRepository.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Zugriff auf {@code mail_outbox} über plain JDBC (INSERT IGNORE für
+ * Dedup, {@code FOR UPDATE SKIP LOCKED} für parallele Dispatcher). Läuft in
+ * der Tx des Aufrufers.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MailOutboxRepository {
+
+    static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String SQL_INSERT = """
+            INSERT IGNORE INTO mail_outbox (id, recipient, subject, body, dedup_key, next_attempt_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SQL_DUE = """
+            SELECT id, recipient, subject, body, attempts
+              FROM mail_outbox
+             WHERE status = 'PENDING'
+               AND next_attempt_at <= ?
+             ORDER BY next_attempt_at
+             LIMIT ?
+               FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String SQL_LEASE = "UPDATE mail_outbox SET attempts = attempts + 1, next_attempt_at = ? WHERE id = ?";
+
+    private static final String SQL_SENT = "UPDATE mail_outbox SET status = 'SENT', sent_at = ?, last_error = NULL WHERE id = ?";
+
+    private static final String SQL_RETRY = "UPDATE mail_outbox SET next_attempt_at = ?, last_error = ? WHERE id = ?";
+
+    private static final String SQL_FAILED = "UPDATE mail_outbox SET status = 'FAILED', last_error = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbc;
+
+    /** Ausstehende Mail; {@code attempts} inkl. des aktuellen Versuchs. */
+    public record OutboxMail(UUID id, String recipient, String subject, String body, int attempts) {
+    }
+
+    /** Vorzumerkende Mail; {@code dedupKey} optional. */
+    public record NewMail(UUID id, String recipient, String subject, String body, String dedupKey) {
+    }
+
+    /** @return {@code false}, wenn {@code dedupKey} schon vergeben ist */
+    public boolean insert(NewMail mail, Instant now) {
+        Timestamp ts = Timestamp.from(now);
+        return jdbc.update(SQL_INSERT, ps -> bind(ps, mail, ts)) == 1;
+    }
+
+    /** Mehrere Mails als JDBC-Batch; bereits vergebene {@code dedupKey}s werden übersprungen. */
+    public void insertAll(List<NewMail> mails, Instant now) {
+        Timestamp ts = Timestamp.from(now);
+        jdbc.batchUpdate(SQL_INSERT, mails, mails.size(), (ps, m) -> bind(ps, m, ts));
+    }
+
+    private static void bind(PreparedStatement ps, NewMail m, Timestamp now) throws SQLException {
+        ps.setBytes(1, UuidBytes.of(m.id()));
+        ps.setString(2, m.recipient());
+        ps.setString(3, m.subject());
+        ps.setString(4, m.body());
+        if (m.dedupKey() != null)
+            ps.setString(5, m.dedupKey());
+        else
+            ps.setNull(5, Types.VARCHAR);
+        ps.setTimestamp(6, now);
+    }
+
+    /**
+     * Fällige Mails sperren und bis {@code leaseUntil} für andere Dispatcher
+     * ausblenden (Versuch wird sofort gezählt, Absturz beim Senden → Retry
+     * nach Ablauf der Lease).
+     */
+    public List<OutboxMail> claimDue(Instant now, Instant leaseUntil, int limit) {
+        List<OutboxMail> due = jdbc.query(SQL_DUE, ps -> {
+            ps.setTimestamp(1, Timestamp.from(now));
+            ps.setInt(2, limit);
+        }, (rs, i) -> new OutboxMail(
+                UuidBytes.toUuid(rs.getBytes(1)),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getInt(5) + 1));
+        Timestamp lease = Timestamp.from(leaseUntil);
+        jdbc.batchUpdate(SQL_LEASE, due, due.size(), (ps, m) -> {
+            ps.setTimestamp(1, lease);
+            ps.setBytes(2, UuidBytes.of(m.id()));
+        });
+        return due;
+    }
+
+    public void markSent(List<UUID> ids, Instant now) {
+        Timestamp ts = Timestamp.from(now);
+        jdbc.batchUpdate(SQL_SENT, ids, ids.size(), (ps, id) -> {
+            ps.setTimestamp(1, ts);
+            ps.setBytes(2, UuidBytes.of(id));
+        });
+    }
+
+    public void markRetry(UUID id, Instant nextAttemptAt, String error) {
+        jdbc.update(SQL_RETRY, Timestamp.from(nextAttemptAt), truncate(error), UuidBytes.of(id));
+    }
+
+    public void markFailed(UUID id, String error) {
+        jdbc.update(SQL_FAILED, truncate(error), UuidBytes.of(id));
+    }
+
+    private static String truncate(String s) {
+        return s == null || s.length() <= MAX_ERROR_LENGTH ? s : s.substring(0, MAX_ERROR_LENGTH);
+    }
+}
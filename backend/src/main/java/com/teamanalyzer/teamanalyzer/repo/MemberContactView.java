@@ -0,0 +1,13 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/MemberContactView.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.util.UUID;
+
+/**
+ * User-ID und E-Mail eines Teammitglieds (ohne Entities zu laden).
+ */
+public interface MemberContactView {
+    UUID getUserId();
+
+    String getEmail();
+}
@@ -0,0 +1,13 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/MembershipView.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.util.UUID;
+
+/**
+ * Team-ID und Leader-Flag einer Mitgliedschaft (ohne Entities zu laden).
+ */
+public interface MembershipView {
+    UUID getTeamId();
+
+    boolean isLeader();
+}
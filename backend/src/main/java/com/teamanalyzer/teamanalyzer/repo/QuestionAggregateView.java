@@ -0,0 +1,13 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/QuestionAggregateView.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+/**
+ * Aggregat je Frage (GROUP BY question.idx) – Anzahl und Summe der Antworten.
+ */
+public interface QuestionAggregateView {
+    short getIdx();
+
+    long getAnswers();
+
+    long getTotal();
+}
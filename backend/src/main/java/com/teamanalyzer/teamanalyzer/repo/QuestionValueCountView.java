@@ -0,0 +1,14 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/QuestionValueCountView.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+/**
+ * Anzahl Antworten je (Frage-Index, Likert-Wert), Ergebnis eines
+ * GROUP BY in der DB.
+ */
+public interface QuestionValueCountView {
+    short getIdx();
+
+    short getValue();
+
+    long getAnswers();
+}
@@ -0,0 +1,14 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/ResultsVersionView.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.time.Instant;
+
+/**
+ * Billige Versionsmerkmale der Ergebnisse eines Surveys (Basis für ETags):
+ * Anzahl Abgaben und jüngstes created_at, beides aus ix_sr_survey.
+ */
+public interface ResultsVersionView {
+    long getResponses();
+
+    Instant getLatest();
+}
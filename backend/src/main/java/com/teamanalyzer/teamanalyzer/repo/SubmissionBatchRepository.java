@@ -0,0 +1,131 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/SubmissionBatchRepository.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.teamanalyzer.teamanalyzer.domain.AnswerStorage;
+import com.teamanalyzer.teamanalyzer.domain.PackedAnswers;
+import com.teamanalyzer.teamanalyzer.domain.TimeOrderedUuid;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Schreibpfad der gebündelten Abgabe über plain JDBC: Token-CAS als
+ * JDBC-Batch, Abgaben und Antworten als mehrzeilige INSERTs (Ablage gemäß
+ * {@code app.responses.storage}). Läuft in der Tx des Aufrufers.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubmissionBatchRepository {
+
+    /** Obergrenze Zeilen je INSERT (hält Statement-Größe und Platzhalter klein). */
+    static final int MAX_ROWS_PER_INSERT = 500;
+
+    private static final String SQL_REDEEM = """
+            UPDATE survey_tokens
+               SET redeemed = TRUE, redeemed_at = ?
+             WHERE id = ?
+               AND redeemed = FALSE
+               AND revoked = FALSE
+            """;
+
+    private static final String SQL_INSERT_RESPONSES = "INSERT INTO survey_responses (id, survey_id, token_id) VALUES ";
+    private static final String SQL_INSERT_RESPONSES_PACKED = "INSERT INTO survey_responses (id, survey_id, token_id, answers_packed) VALUES ";
+    private static final String SQL_INSERT_ANSWERS = "INSERT INTO survey_answers (id, response_id, question_id, value, answer_order) VALUES ";
+
+    private final JdbcTemplate jdbc;
+
+    @Value("${app.responses.storage:dual}")
+    private AnswerStorage answerStorage = AnswerStorage.DUAL;
+
+    /** Zu schreibende Abgabe; {@code answers[i]} gehört zu {@code questionIds[i]}. */
+    public record NewResponse(UUID id, UUID surveyId, UUID tokenId, UUID[] questionIds, short[] answers) {
+    }
+
+    /**
+     * Löst die Tokens per Compare-and-Set ein.
+     *
+     * @return je Token 1 = eingelöst, 0 = bereits eingelöst/widerrufen (setzt
+     *         voraus, dass der Treiber Batches nicht umschreibt, sonst fehlen
+     *         die Einzel-Zählwerte)
+     */
+    public int[] redeemTokens(List<UUID> tokenIds, Instant now) {
+        Timestamp ts = Timestamp.from(now);
+        return jdbc.batchUpdate(SQL_REDEEM, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setTimestamp(1, ts);
+                ps.setBytes(2, UuidBytes.of(tokenIds.get(i)));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return tokenIds.size();
+            }
+        });
+    }
+
+    /** Abgaben samt Antworten mit wenigen mehrzeiligen INSERTs anlegen. */
+    public void insertResponses(List<NewResponse> responses) {
+        for (int from = 0; from < responses.size(); from += MAX_ROWS_PER_INSERT) {
+            List<NewResponse> chunk = responses.subList(from, Math.min(responses.size(), from + MAX_ROWS_PER_INSERT));
+            boolean packed = answerStorage.writesPacked();
+            String sql = packed
+                    ? values(SQL_INSERT_RESPONSES_PACKED, "(?,?,?,?)", chunk.size())
+                    : values(SQL_INSERT_RESPONSES, "(?,?,?)", chunk.size());
+            jdbc.update(sql, ps -> {
+                int p = 1;
+                for (NewResponse r : chunk) {
+                    ps.setBytes(p++, UuidBytes.of(r.id()));
+                    ps.setBytes(p++, UuidBytes.of(r.surveyId()));
+                    ps.setBytes(p++, UuidBytes.of(r.tokenId()));
+                    if (packed)
+                        ps.setBytes(p++, PackedAnswers.pack(r.answers()));
+                }
+            });
+        }
+        if (!answerStorage.writesRows())
+            return;
+
+        int perResponse = responses.isEmpty() ? 1 : Math.max(1, responses.get(0).answers().length);
+        int responsesPerInsert = Math.max(1, MAX_ROWS_PER_INSERT / perResponse);
+        for (int from = 0; from < responses.size(); from += responsesPerInsert) {
+            List<NewResponse> chunk = responses.subList(from, Math.min(responses.size(), from + responsesPerInsert));
+            int rows = chunk.stream().mapToInt(r -> r.answers().length).sum();
+            jdbc.update(values(SQL_INSERT_ANSWERS, "(?,?,?,?,?)", rows), ps -> {
+                int p = 1;
+                for (NewResponse r : chunk) {
+                    byte[] responseId = UuidBytes.of(r.id());
+                    for (int i = 0; i < r.answers().length; i++) {
+                        ps.setBytes(p++, UuidBytes.of(TimeOrderedUuid.next()));
+                        ps.setBytes(p++, responseId);
+                        ps.setBytes(p++, UuidBytes.of(r.questionIds()[i]));
+                        ps.setShort(p++, r.answers()[i]);
+                        ps.setInt(p++, i);
+                    }
+                }
+            });
+        }
+    }
+
+    private static String values(String prefix, String tuple, int rows) {
+        StringBuilder sb = new StringBuilder(prefix.length() + rows * (tuple.length() + 1));
+        sb.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0)
+                sb.append(',');
+            sb.append(tuple);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,218 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/SurveyExportRepository.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.teamanalyzer.teamanalyzer.domain.AnswerStorage;
+import com.teamanalyzer.teamanalyzer.domain.PackedAnswers;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Export-Lesepfad über plain JDBC: forward-only Cursor mit begrenzter
+ * Fetch-Size (MySQL: {@code useCursorFetch=true}), damit nie mehr als ein
+ * Fetch-Block im Heap liegt. Bewusst ohne JPA (kein Persistence Context).
+ * Bei {@code app.responses.storage=packed} eine Zeile je Abgabe aus
+ * {@code answers_packed} statt des JOINs über {@code survey_answers}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyExportRepository {
+
+    private static final String SQL = """
+            SELECT r.id, r.created_at, a.answer_order, a.value
+              FROM survey_responses r
+              JOIN survey_answers a ON a.response_id = r.id
+             WHERE r.survey_id = ?
+             ORDER BY r.created_at, r.id
+            """;
+
+    private static final String SQL_FIRST_PAGE = """
+            SELECT r.id, r.created_at, a.answer_order, a.value
+              FROM (SELECT id, created_at
+                      FROM survey_responses
+                     WHERE survey_id = ?
+                       AND created_at < ?
+                     ORDER BY created_at, id
+                     LIMIT ?) r
+              JOIN survey_answers a ON a.response_id = r.id
+             ORDER BY r.created_at, r.id
+            """;
+
+    private static final String SQL_AFTER = """
+            SELECT r.id, r.created_at, a.answer_order, a.value
+              FROM (SELECT id, created_at
+                      FROM survey_responses
+                     WHERE survey_id = ?
+                       AND (created_at > ? OR (created_at = ? AND id > ?))
+                       AND created_at < ?
+                     ORDER BY created_at, id
+                     LIMIT ?) r
+              JOIN survey_answers a ON a.response_id = r.id
+             ORDER BY r.created_at, r.id
+            """;
+
+    // gepackte Ablage: eine Zeile je Abgabe, kein JOIN
+    private static final String SQL_PACKED = """
+            SELECT id, created_at, answers_packed
+              FROM survey_responses
+             WHERE survey_id = ?
+             ORDER BY created_at, id
+            """;
+
+    private static final String SQL_PACKED_FIRST_PAGE = """
+            SELECT id, created_at, answers_packed
+              FROM survey_responses
+             WHERE survey_id = ?
+               AND created_at < ?
+             ORDER BY created_at, id
+             LIMIT ?
+            """;
+
+    private static final String SQL_PACKED_AFTER = """
+            SELECT id, created_at, answers_packed
+              FROM survey_responses
+             WHERE survey_id = ?
+               AND (created_at > ? OR (created_at = ? AND id > ?))
+               AND created_at < ?
+             ORDER BY created_at, id
+             LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    @Value("${app.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${app.responses.storage:dual}")
+    private AnswerStorage answerStorage = AnswerStorage.DUAL;
+
+    /** Callback je vollständiger Abgabe; {@code answers[i]} = Antwort mit answer_order i (0 = fehlt). */
+    @FunctionalInterface
+    public interface ResponseHandler {
+        void onResponse(UUID responseId, Instant createdAt, short[] answers) throws IOException;
+    }
+
+    /**
+     * Iteriert alle Abgaben eines Surveys in (created_at, id)-Reihenfolge.
+     * Die Antwortzeilen einer Abgabe folgen direkt aufeinander und werden
+     * zu einem Array gruppiert; das Array wird je Abgabe wiederverwendet.
+     *
+     * @return Anzahl gelieferter Abgaben
+     */
+    public long forEachResponse(UUID surveyId, int questionCount, ResponseHandler handler) {
+        return stream(answerStorage.readsPacked() ? SQL_PACKED : SQL,
+                ps -> ps.setBytes(1, UuidBytes.of(surveyId)), questionCount, handler);
+    }
+
+    /**
+     * Keyset-Seite: höchstens {@code limit} Abgaben nach (afterCreatedAt, afterId)
+     * in (created_at, id)-Reihenfolge, über ix_sr_survey. Ohne Cursor
+     * ({@code afterCreatedAt == null}) ab der ersten Abgabe. Nur Abgaben mit
+     * {@code created_at < before}: jüngere können noch von Tx mit kleinerer
+     * ID im selben Zeitstempel überholt werden und kämen hinter dem Cursor an.
+     */
+    public long forEachResponseAfter(UUID surveyId, Instant afterCreatedAt, UUID afterId, Instant before,
+            int limit, int questionCount, ResponseHandler handler) {
+        Timestamp until = Timestamp.from(before);
+        if (afterCreatedAt == null) {
+            return stream(answerStorage.readsPacked() ? SQL_PACKED_FIRST_PAGE : SQL_FIRST_PAGE, ps -> {
+                ps.setBytes(1, UuidBytes.of(surveyId));
+                ps.setTimestamp(2, until);
+                ps.setInt(3, limit);
+            }, questionCount, handler);
+        }
+        Timestamp ts = Timestamp.from(afterCreatedAt);
+        return stream(answerStorage.readsPacked() ? SQL_PACKED_AFTER : SQL_AFTER, ps -> {
+            ps.setBytes(1, UuidBytes.of(surveyId));
+            ps.setTimestamp(2, ts);
+            ps.setTimestamp(3, ts);
+            ps.setBytes(4, UuidBytes.of(afterId));
+            ps.setTimestamp(5, until);
+            ps.setInt(6, limit);
+        }, questionCount, handler);
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+
+    private long stream(String sql, Binder binder, int questionCount, ResponseHandler handler) {
+        if (answerStorage.readsPacked())
+            return streamPacked(sql, binder, questionCount, handler);
+        var state = new Object() {
+            byte[] currentId;
+            Instant createdAt;
+            final short[] answers = new short[questionCount];
+            long emitted;
+
+            void flush() {
+                if (currentId == null)
+                    return;
+                try {
+                    handler.onResponse(UuidBytes.toUuid(currentId), createdAt, answers);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                emitted++;
+                Arrays.fill(answers, (short) 0);
+            }
+        };
+
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            binder.bind(ps);
+            return ps;
+        }, rs -> {
+            byte[] id = rs.getBytes(1);
+            if (state.currentId == null || !Arrays.equals(state.currentId, id)) {
+                state.flush();
+                state.currentId = id;
+                Timestamp ts = rs.getTimestamp(2);
+                state.createdAt = ts != null ? ts.toInstant() : null;
+            }
+            int order = rs.getInt(3);
+            if (order >= 0 && order < questionCount) {
+                state.answers[order] = rs.getShort(4);
+            }
+        });
+        state.flush();
+        return state.emitted;
+    }
+
+    /** Eine Zeile je Abgabe; das Werte-Array wird wiederverwendet. */
+    private long streamPacked(String sql, Binder binder, int questionCount, ResponseHandler handler) {
+        short[] answers = new short[questionCount];
+        long[] emitted = { 0 };
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            binder.bind(ps);
+            return ps;
+        }, rs -> {
+            Timestamp ts = rs.getTimestamp(2);
+            try {
+                handler.onResponse(UuidBytes.toUuid(rs.getBytes(1)), ts != null ? ts.toInstant() : null,
+                        PackedAnswers.unpack(rs.getBytes(3), answers));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            emitted[0]++;
+        });
+        return emitted[0];
+    }
+}
@@ -0,0 +1,137 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/SurveyQuestionStatsRepository.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestionStats;
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestionStatsKey;
+
+@Repository
+@Transactional(readOnly = true)
+public interface SurveyQuestionStatsRepository extends JpaRepository<SurveyQuestionStats, SurveyQuestionStatsKey> {
+
+    @Query("""
+            select s from SurveyQuestionStats s
+             where s.id.surveyId = :surveyId
+             order by s.id.idx
+            """)
+    List<SurveyQuestionStats> findBySurveyId(@Param("surveyId") UUID surveyId);
+
+    /**
+     * Atomares Fortschreiben (Zeilenlock statt Read-Modify-Write).
+     *
+     * @return 0, falls für (survey, idx) noch keine Zeile existiert
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update SurveyQuestionStats s
+               set s.answerCount = s.answerCount + :count,
+                   s.answerSum   = s.answerSum + :sum,
+                   s.h1 = s.h1 + :h1,
+                   s.h2 = s.h2 + :h2,
+                   s.h3 = s.h3 + :h3,
+                   s.h4 = s.h4 + :h4,
+                   s.h5 = s.h5 + :h5
+             where s.id.surveyId = :surveyId
+               and s.id.idx = :idx
+            """)
+    int increment(@Param("surveyId") UUID surveyId, @Param("idx") short idx,
+            @Param("count") long count, @Param("sum") long sum,
+            @Param("h1") long h1, @Param("h2") long h2, @Param("h3") long h3,
+            @Param("h4") long h4, @Param("h5") long h5);
+
+    // ---------- Sperre je Survey: Abgaben teilen sie, Rebuild exklusiv ----------
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = "SELECT 1 FROM surveys WHERE id = :surveyId FOR SHARE", nativeQuery = true)
+    Integer lockSurveySharedBytes(@Param("surveyId") byte[] surveyId);
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = "SELECT 1 FROM surveys WHERE id = :surveyId FOR UPDATE", nativeQuery = true)
+    Integer lockSurveyBytes(@Param("surveyId") byte[] surveyId);
+
+    /**
+     * Geteilte Sperre auf die Survey-Zeile bis Tx-Ende: ein Rebuild wartet
+     * auf laufende Abgaben (und sie auf ihn). S-Sperren vertragen sich, der
+     * Insert der Abgabe nimmt per FK-Prüfung ohnehin S auf dieselbe Zeile;
+     * hintereinander laufen Abgaben erst an den Stats-Zeilen (X beim
+     * Hochzählen). Sperrreihenfolge überall: Token-Zeilen → Survey-Zeile →
+     * Stats-Zeilen (Abgabe: Redeem, Insert/FOR SHARE, Increment; Schließen:
+     * Widerrufen, Status-CAS; Rebuild: FOR UPDATE, DELETE/INSERT).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    default void lockSurveyShared(UUID surveyId) {
+        lockSurveySharedBytes(UuidBytes.of(surveyId));
+    }
+
+    // ---------- Rebuild aus Rohdaten (natives SQL, BINARY(16) als byte[]) ----------
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "DELETE FROM survey_question_stats WHERE survey_id = :surveyId", nativeQuery = true)
+    int deleteBySurveyIdBytes(@Param("surveyId") byte[] surveyId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO survey_question_stats (survey_id, idx, answer_count, answer_sum, h1, h2, h3, h4, h5)
+            SELECT q.survey_id, q.idx, COUNT(a.id), COALESCE(SUM(a.value), 0),
+                   COALESCE(SUM(a.value = 1), 0), COALESCE(SUM(a.value = 2), 0), COALESCE(SUM(a.value = 3), 0),
+                   COALESCE(SUM(a.value = 4), 0), COALESCE(SUM(a.value = 5), 0)
+              FROM survey_questions q
+              LEFT JOIN survey_answers a ON a.question_id = q.id
+             WHERE q.survey_id = :surveyId
+             GROUP BY q.survey_id, q.idx
+            """, nativeQuery = true)
+    int insertFromAnswersBytes(@Param("surveyId") byte[] surveyId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO survey_question_stats (survey_id, idx, answer_count, answer_sum, h1, h2, h3, h4, h5)
+            SELECT q.survey_id, q.idx, COUNT(r.id),
+                   COALESCE(SUM(ASCII(SUBSTRING(r.answers_packed, q.idx, 1))), 0),
+                   COALESCE(SUM(ASCII(SUBSTRING(r.answers_packed, q.idx, 1)) = 1), 0),
+                   COALESCE(SUM(ASCII(SUBSTRING(r.answers_packed, q.idx, 1)) = 2), 0),
+                   COALESCE(SUM(ASCII(SUBSTRING(r.answers_packed, q.idx, 1)) = 3), 0),
+                   COALESCE(SUM(ASCII(SUBSTRING(r.answers_packed, q.idx, 1)) = 4), 0),
+                   COALESCE(SUM(ASCII(SUBSTRING(r.answers_packed, q.idx, 1)) = 5), 0)
+              FROM survey_questions q
+              LEFT JOIN survey_responses r ON r.survey_id = q.survey_id AND r.answers_packed IS NOT NULL
+             WHERE q.survey_id = :surveyId
+             GROUP BY q.survey_id, q.idx
+            """, nativeQuery = true)
+    int insertFromPackedAnswersBytes(@Param("surveyId") byte[] surveyId);
+
+    /** Wie {@link #rebuild(UUID)}, aber aus {@code survey_responses.answers_packed}. */
+    @Transactional
+    default int rebuildFromPacked(UUID surveyId) {
+        byte[] id = UuidBytes.of(surveyId);
+        lockSurveyBytes(id);
+        deleteBySurveyIdBytes(id);
+        return insertFromPackedAnswersBytes(id);
+    }
+
+    /**
+     * Verwirft und berechnet die Stats eines Surveys neu; liefert die Anzahl
+     * Fragen. Hält die Survey-Zeile exklusiv, damit keine Abgabe zwischen
+     * DELETE und INSERT hochzählt oder eine Zeile doppelt anlegt.
+     */
+    @Transactional
+    default int rebuild(UUID surveyId) {
+        byte[] id = UuidBytes.of(surveyId);
+        lockSurveyBytes(id);
+        deleteBySurveyIdBytes(id);
+        return insertFromAnswersBytes(id);
+    }
+}
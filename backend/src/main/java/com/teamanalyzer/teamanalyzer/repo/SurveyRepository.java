@@ -1,17 +1,20 @@
 // backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/SurveyRepository.java
 package com.teamanalyzer.teamanalyzer.repo;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.teamanalyzer.teamanalyzer.domain.Survey;
+import com.teamanalyzer.teamanalyzer.domain.SurveyStatus;
 
 @Repository
 @Transactional(readOnly = true)
@@ -50,6 +53,47 @@ public interface SurveyRepository extends JpaRepository<Survey, UUID> {
   @Query("select s.team.id from Survey s where s.id = :surveyId")
   Optional<UUID> findTeamIdById(UUID surveyId);
 
+  /** Versionsspalten für ETags, ohne die Definition zu laden. */
+  @Query("""
+        select s.version as surveyVersion, t.version as teamVersion,
+               coalesce(sum(q.version), 0) as questionVersions, count(q) as questions
+          from Survey s
+          join s.team t
+          left join s.questions q
+         where s.id = :surveyId
+         group by s.version, t.version
+      """)
+  Optional<SurveyVersionView> findVersionById(UUID surveyId);
+
+  /** Status-Lookup ohne Laden der Entity (z. B. vor Token-Ausgabe). */
+  @Query("select s.status from Survey s where s.id = :surveyId")
+  Optional<SurveyStatus> findStatusById(UUID surveyId);
+
+  /**
+   * Schließt ein offenes Survey (Compare-and-Set auf den Status).
+   *
+   * @return 1, wenn geschlossen; 0, wenn nicht vorhanden oder schon geschlossen
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("""
+      update Survey s
+         set s.status = com.teamanalyzer.teamanalyzer.domain.SurveyStatus.CLOSED,
+             s.closedAt = :now,
+             s.version = s.version + 1
+       where s.id = :surveyId
+         and s.status = com.teamanalyzer.teamanalyzer.domain.SurveyStatus.OPEN
+      """)
+  int closeIfOpen(UUID surveyId, Instant now);
+
+  /** IDs je Status (z. B. Vorwärmen des Token-Filters für offene Surveys). */
+  @Query("select s.id from Survey s where s.status = :status")
+  List<UUID> findIdsByStatus(SurveyStatus status);
+
+  /** Nur IDs, z. B. für Wartungsjobs (Stats-Rebuild). */
+  @Query("select s.id from Survey s")
+  List<UUID> findAllIds();
+
   @Query("""
         select distinct s
           from Survey s
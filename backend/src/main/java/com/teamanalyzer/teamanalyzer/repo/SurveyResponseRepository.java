@@ -5,7 +5,9 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,4 +25,90 @@ public interface SurveyResponseRepository extends JpaRepository<SurveyResponse,
             where r.survey.id = :surveyId
             """)
     List<SurveyResponse> findBySurveyId(UUID surveyId);
+
+    /**
+     * Summe und Anzahl der Antworten je Frage-Index, komplett in der DB
+     * aggregiert (keine Entities im Persistence Context).
+     */
+    @Query("""
+            select q.idx as idx, count(a.id) as answers, coalesce(sum(a.value), 0) as total
+            from SurveyAnswer a
+            join a.question q
+            where q.survey.id = :surveyId
+            group by q.idx
+            order by q.idx
+            """)
+    List<QuestionAggregateView> aggregateBySurveyId(UUID surveyId);
+
+    /** Häufigkeit je (Frage-Index, Wert) – Basis für Likert-Histogramme. */
+    @Query("""
+            select q.idx as idx, a.value as value, count(a.id) as answers
+            from SurveyAnswer a
+            join a.question q
+            where q.survey.id = :surveyId
+            group by q.idx, a.value
+            """)
+    List<QuestionValueCountView> countByIdxAndValue(UUID surveyId);
+
+    // ---------- gepackte Ablage (answers_packed; natives SQL, BINARY(16) als byte[]) ----------
+
+    @Query(value = """
+            SELECT q.idx AS idx, COUNT(r.id) AS answers,
+                   COALESCE(SUM(ASCII(SUBSTRING(r.answers_packed, q.idx, 1))), 0) AS total
+              FROM survey_questions q
+              JOIN survey_responses r ON r.survey_id = q.survey_id AND r.answers_packed IS NOT NULL
+             WHERE q.survey_id = :surveyId
+             GROUP BY q.idx
+             ORDER BY q.idx
+            """, nativeQuery = true)
+    List<QuestionAggregateView> aggregatePackedBySurveyIdBytes(@Param("surveyId") byte[] surveyId);
+
+    @Query(value = """
+            SELECT q.idx AS idx, ASCII(SUBSTRING(r.answers_packed, q.idx, 1)) AS value, COUNT(*) AS answers
+              FROM survey_questions q
+              JOIN survey_responses r ON r.survey_id = q.survey_id AND r.answers_packed IS NOT NULL
+             WHERE q.survey_id = :surveyId
+             GROUP BY 1, 2
+            """, nativeQuery = true)
+    List<QuestionValueCountView> countPackedByIdxAndValueBytes(@Param("surveyId") byte[] surveyId);
+
+    /** Wie {@link #aggregateBySurveyId}, aber aus {@code answers_packed}. */
+    default List<QuestionAggregateView> aggregatePackedBySurveyId(UUID surveyId) {
+        return aggregatePackedBySurveyIdBytes(UuidBytes.of(surveyId));
+    }
+
+    /** Wie {@link #countByIdxAndValue}, aber aus {@code answers_packed}. */
+    default List<QuestionValueCountView> countPackedByIdxAndValue(UUID surveyId) {
+        return countPackedByIdxAndValueBytes(UuidBytes.of(surveyId));
+    }
+
+    /**
+     * Packt Abgaben ohne {@code answers_packed} aus ihren Antwortzeilen
+     * (Nachzügler aus dem ROWS-Modus vor dem Umstieg auf PACKED).
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE survey_responses r
+              JOIN (SELECT a.response_id,
+                           CAST(GROUP_CONCAT(CHAR(a.value) ORDER BY a.answer_order SEPARATOR '') AS BINARY) AS packed,
+                           COUNT(*) AS n, MAX(a.answer_order) AS max_order
+                      FROM survey_answers a
+                     GROUP BY a.response_id) p ON p.response_id = r.id
+               SET r.answers_packed = p.packed
+             WHERE r.answers_packed IS NULL
+               AND p.n = p.max_order + 1
+            """, nativeQuery = true)
+    int backfillPackedAnswers();
+
+    /** Anzahl und jüngster Zeitpunkt der Abgaben (Index-only über ix_sr_survey). */
+    @Query("""
+            select count(r) as responses, max(r.createdAt) as latest
+            from SurveyResponse r
+            where r.survey.id = :surveyId
+            """)
+    ResultsVersionView findResultsVersion(UUID surveyId);
+
+    /** Anzahl Responses eines Surveys (Index ix_sr_survey). */
+    long countBySurvey_Id(UUID surveyId);
 }
@@ -0,0 +1,15 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/SurveyResultSnapshotRepository.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamanalyzer.teamanalyzer.domain.SurveyResultSnapshot;
+
+@Repository
+@Transactional(readOnly = true)
+public interface SurveyResultSnapshotRepository extends JpaRepository<SurveyResultSnapshot, UUID> {
+}
@@ -1,12 +1,13 @@
 // backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/SurveyTokenRepository.java
 package com.teamanalyzer.teamanalyzer.repo;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -14,8 +15,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.teamanalyzer.teamanalyzer.domain.SurveyToken;
 
-import jakarta.persistence.LockModeType;
-
 @Repository
 @Transactional(readOnly = true)
 public interface SurveyTokenRepository extends JpaRepository<SurveyToken, UUID> {
@@ -30,6 +29,16 @@ public interface SurveyTokenRepository extends JpaRepository<SurveyToken, UUID>
   Optional<SurveyToken> findFirstBySurvey_IdAndIssuedToUser_IdAndRedeemedFalseAndRevokedFalse(
       UUID surveyId, UUID userId);
 
+  /** User-IDs, die für das Survey bereits ein aktives Token halten. */
+  @Query("""
+      select distinct t.issuedToUser.id
+        from SurveyToken t
+       where t.survey.id = :surveyId
+         and t.redeemed = false
+         and t.revoked = false
+      """)
+  Set<UUID> findActiveHolderIds(UUID surveyId);
+
   /** (Optional) Alle Tokens eines Users für Anzeigezwecke. */
   List<SurveyToken> findByIssuedToUser_IdAndSurvey_Id(UUID userId, UUID surveyId);
 
@@ -65,10 +74,48 @@ public interface SurveyTokenRepository extends JpaRepository<SurveyToken, UUID>
       """)
   int revokeAllActiveForUser(UUID surveyId, UUID userId);
 
+  /** Widerruft alle noch aktiven Tokens eines Surveys in einem Statement (Schließen). */
+  @Transactional
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("""
+      update SurveyToken t
+         set t.revoked = true,
+             t.revokedAt = CURRENT_TIMESTAMP
+       where t.survey.id = :surveyId
+         and t.redeemed = false
+         and t.revoked = false
+      """)
+  int revokeAllActiveForSurvey(UUID surveyId);
+
+  /** Alle ausgestellten Hashes eines Surveys (Aufbau des Token-Filters). */
+  @Query("select t.tokenHash from SurveyToken t where t.survey.id = :surveyId")
+  List<byte[]> findHashesBySurveyId(UUID surveyId);
+
+  long countBySurvey_Id(UUID surveyId);
+
   /** Lookup beim Redeem (Hash + Survey). */
   Optional<SurveyToken> findByTokenHashAndSurvey_Id(byte[] tokenHash, UUID surveyId);
 
-  @Lock(LockModeType.PESSIMISTIC_WRITE)
-  Optional<SurveyToken> findWithLockByTokenHashAndSurvey_Id(byte[] tokenHash, UUID surveyId);
+  @Query("select t.id from SurveyToken t where t.tokenHash = :tokenHash and t.survey.id = :surveyId")
+  Optional<UUID> findIdByTokenHashAndSurvey_Id(byte[] tokenHash, UUID surveyId);
+
+  /**
+   * Einlösen als Compare-and-Set in einem Statement (kein vorheriger
+   * Lock-Read).
+   *
+   * @return 1 = eingelöst, 0 = unbekannt, bereits eingelöst oder widerrufen
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("""
+      update SurveyToken t
+         set t.redeemed = true,
+             t.redeemedAt = :now
+       where t.tokenHash = :tokenHash
+         and t.survey.id = :surveyId
+         and t.redeemed = false
+         and t.revoked = false
+      """)
+  int redeemIfActive(byte[] tokenHash, UUID surveyId, Instant now);
 
 }
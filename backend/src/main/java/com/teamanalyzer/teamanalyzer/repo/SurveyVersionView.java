@@ -0,0 +1,16 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/SurveyVersionView.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+/**
+ * Versionsspalten einer Survey-Definition (Survey, Team, Fragen) – ändert
+ * sich mit jedem Update, das {@code SurveyDto} beeinflusst.
+ */
+public interface SurveyVersionView {
+    long getSurveyVersion();
+
+    long getTeamVersion();
+
+    long getQuestionVersions();
+
+    long getQuestions();
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +19,14 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, TeamMemb
     /** Alle Mitglieder eines Teams. */
     List<TeamMember> findByTeam_Id(UUID teamId);
 
+    /** User-ID + E-Mail aller Mitglieder in einer Abfrage (Massen-Tokenvergabe). */
+    @Query("select m.user.id as userId, m.user.email as email from TeamMember m where m.team.id = :teamId")
+    List<MemberContactView> findContactsByTeamId(UUID teamId);
+
+    /** Alle Mitgliedschaften eines Users in einer Abfrage (Berechtigungs-Cache). */
+    @Query("select m.team.id as teamId, m.leader as leader from TeamMember m where m.user.id = :userId")
+    List<MembershipView> findMembershipsByUserId(UUID userId);
+
     /** Gibt es Leader in einem Team? */
     boolean existsByTeam_IdAndLeaderTrue(UUID teamId);
 
@@ -0,0 +1,66 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/TokenBatchRepository.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Massenanlage von Survey-Tokens über mehrzeilige INSERTs (plain JDBC,
+ * läuft in der Tx des Aufrufers).
+ */
+@Repository
+@RequiredArgsConstructor
+public class TokenBatchRepository {
+
+    /** Obergrenze Zeilen je INSERT (hält Statement-Größe und Platzhalter klein). */
+    static final int MAX_ROWS_PER_INSERT = 500;
+
+    private static final String SQL_INSERT = "INSERT INTO survey_tokens (id, survey_id, issued_at, issued_to_email, issued_to_user_id, token_hash) VALUES ";
+    private static final String TUPLE = "(?,?,?,?,?,?)";
+
+    private final JdbcTemplate jdbc;
+
+    /** Anzulegendes Token; {@code tokenHash} = SHA-256 des Klartexts. */
+    public record NewToken(UUID id, UUID userId, String email, byte[] tokenHash) {
+    }
+
+    /** @return Anzahl angelegter Zeilen */
+    public int insertTokens(UUID surveyId, Instant issuedAt, List<NewToken> tokens) {
+        byte[] survey = UuidBytes.of(surveyId);
+        Timestamp ts = Timestamp.from(issuedAt);
+        int inserted = 0;
+        for (int from = 0; from < tokens.size(); from += MAX_ROWS_PER_INSERT) {
+            List<NewToken> chunk = tokens.subList(from, Math.min(tokens.size(), from + MAX_ROWS_PER_INSERT));
+            StringBuilder sql = new StringBuilder(SQL_INSERT.length() + chunk.size() * (TUPLE.length() + 1));
+            sql.append(SQL_INSERT);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0)
+                    sql.append(',');
+                sql.append(TUPLE);
+            }
+            inserted += jdbc.update(sql.toString(), ps -> {
+                int p = 1;
+                for (NewToken t : chunk) {
+                    ps.setBytes(p++, UuidBytes.of(t.id()));
+                    ps.setBytes(p++, survey);
+                    ps.setTimestamp(p++, ts);
+                    if (t.email() != null)
+                        ps.setString(p++, t.email());
+                    else
+                        ps.setNull(p++, Types.VARCHAR);
+                    ps.setBytes(p++, UuidBytes.of(t.userId()));
+                    ps.setBytes(p++, t.tokenHash());
+                }
+            });
+        }
+        return inserted;
+    }
+}
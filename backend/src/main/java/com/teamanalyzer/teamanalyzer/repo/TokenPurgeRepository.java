@@ -0,0 +1,135 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/TokenPurgeRepository.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keyset-Seiten für das Löschen abgelaufener Tokens (plain JDBC). Jede
+ * Seite setzt hinter dem letzten Schlüssel der vorigen auf, statt erneut
+ * über bereits gelöschte (delete-markierte) Index-Einträge zu laufen:
+ * <ul>
+ * <li>{@code refresh_tokens} über {@code ix_rt_revoked_expires}
+ * (revoked, expires_at[, id])</li>
+ * <li>{@code survey_tokens} über {@code ix_st_redeemed} bzw.
+ * {@code ix_st_revoked} (Flag[, id])</li>
+ * </ul>
+ * Gelöscht wird anschließend per Primärschlüssel (kurze Zeilenlocks).
+ */
+@Repository
+@RequiredArgsConstructor
+public class TokenPurgeRepository {
+
+    private static final String SQL_REFRESH_PAGE = """
+            SELECT id, expires_at
+              FROM refresh_tokens
+             WHERE revoked = ?
+               AND expires_at < ?
+               AND (expires_at > ? OR (expires_at = ? AND id > ?))
+             ORDER BY expires_at, id
+             LIMIT ?
+            """;
+
+    private static final String SQL_REDEEMED_PAGE = """
+            SELECT id
+              FROM survey_tokens
+             WHERE redeemed = TRUE
+               AND id > ?
+               AND redeemed_at < ?
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String SQL_REVOKED_PAGE = """
+            SELECT id
+              FROM survey_tokens
+             WHERE revoked = TRUE
+               AND id > ?
+               AND revoked_at < ?
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final byte[] ZERO_ID = new byte[16];
+
+    private final JdbcTemplate jdbc;
+
+    /** Position hinter dem letzten Eintrag einer Seite. */
+    public record Cursor(Instant expiresAt, byte[] id) {
+        public static final Cursor START = new Cursor(Instant.EPOCH, ZERO_ID);
+    }
+
+    /** IDs einer Seite und Cursor für die nächste ({@code null} = Anfang). */
+    public record Page<K>(List<UUID> ids, K next) {
+    }
+
+    /** Abgelaufene Refresh-Tokens mit {@code expires_at < cutoff}. */
+    public Page<Cursor> refreshTokensExpiredBefore(boolean revoked, Instant cutoff, Cursor after, int limit) {
+        Timestamp ts = Timestamp.from(after.expiresAt());
+        List<Object[]> rows = jdbc.query(SQL_REFRESH_PAGE, ps -> {
+            ps.setBoolean(1, revoked);
+            ps.setTimestamp(2, Timestamp.from(cutoff));
+            ps.setTimestamp(3, ts);
+            ps.setTimestamp(4, ts);
+            ps.setBytes(5, after.id());
+            ps.setInt(6, limit);
+        }, (rs, i) -> new Object[] { rs.getBytes(1), rs.getTimestamp(2).toInstant() });
+        if (rows.isEmpty())
+            return new Page<>(List.of(), after);
+        Object[] last = rows.get(rows.size() - 1);
+        return new Page<>(rows.stream().map(r -> UuidBytes.toUuid((byte[]) r[0])).toList(),
+                new Cursor((Instant) last[1], (byte[]) last[0]));
+    }
+
+    /** Eingelöste Survey-Tokens mit {@code redeemed_at < cutoff}. */
+    public Page<byte[]> redeemedSurveyTokensBefore(Instant cutoff, byte[] afterId, int limit) {
+        return surveyTokenPage(SQL_REDEEMED_PAGE, cutoff, afterId, limit);
+    }
+
+    /** Widerrufene Survey-Tokens mit {@code revoked_at < cutoff}. */
+    public Page<byte[]> revokedSurveyTokensBefore(Instant cutoff, byte[] afterId, int limit) {
+        return surveyTokenPage(SQL_REVOKED_PAGE, cutoff, afterId, limit);
+    }
+
+    private Page<byte[]> surveyTokenPage(String sql, Instant cutoff, byte[] afterId, int limit) {
+        List<byte[]> rows = jdbc.query(sql, ps -> {
+            ps.setBytes(1, afterId != null ? afterId : ZERO_ID);
+            ps.setTimestamp(2, Timestamp.from(cutoff));
+            ps.setInt(3, limit);
+        }, (rs, i) -> rs.getBytes(1));
+        if (rows.isEmpty())
+            return new Page<>(List.of(), afterId);
+        return new Page<>(rows.stream().map(UuidBytes::toUuid).toList(), rows.get(rows.size() - 1));
+    }
+
+    public int deleteRefreshTokens(List<UUID> ids) {
+        return deleteByIds("refresh_tokens", ids);
+    }
+
+    /** Abgaben behalten ihre Antworten; {@code token_id} → NULL (FK). */
+    public int deleteSurveyTokens(List<UUID> ids) {
+        return deleteByIds("survey_tokens", ids);
+    }
+
+    private int deleteByIds(String table, List<UUID> ids) {
+        if (ids.isEmpty())
+            return 0;
+        StringBuilder sql = new StringBuilder("DELETE FROM ").append(table).append(" WHERE id IN (");
+        for (int i = 0; i < ids.size(); i++) {
+            sql.append(i == 0 ? "?" : ",?");
+        }
+        sql.append(')');
+        return jdbc.update(sql.toString(), ps -> {
+            for (int i = 0; i < ids.size(); i++) {
+                ps.setBytes(i + 1, UuidBytes.of(ids.get(i)));
+            }
+        });
+    }
+}
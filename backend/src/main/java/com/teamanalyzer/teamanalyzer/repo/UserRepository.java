@@ -1,11 +1,13 @@
 // backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/UserRepository.java
 package com.teamanalyzer.teamanalyzer.repo;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,4 +35,24 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @EntityGraph(attributePaths = "roles")
     @Query("select u from User u where lower(u.email) = lower(?1)")
     Optional<User> findByEmailWithRoles(String email);
+
+    @Query("select u.claimsVersion from User u where u.id = :userId")
+    Optional<Integer> findClaimsVersionById(UUID userId);
+
+    /** Team-Claims bereits ausgestellter Access-Tokens entwerten. */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.claimsVersion = u.claimsVersion + 1 where u.id in :userIds")
+    int bumpClaimsVersion(Collection<UUID> userIds);
+
+    /**
+     * Passwort-Hash nur ersetzen, wenn noch der geprüfte alte Hash gespeichert
+     * ist (kein Merge der ganzen Entity).
+     *
+     * @return 1 = ersetzt, 0 = inzwischen geändert
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.passwordHash = :newHash where u.id = :userId and u.passwordHash = :oldHash")
+    int replacePasswordHash(UUID userId, String oldHash, String newHash);
 }
@@ -0,0 +1,28 @@
+// backend/src/main/java/com/teamanalyzer/teamanalyzer/repo/UuidBytes.java
+package com.teamanalyzer.teamanalyzer.repo;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID <-> BINARY(16) (big-endian, wie in den Tabellen gespeichert) für
+ * native SQL/JDBC, wo kein Hibernate-Typmapping greift.
+ */
+public final class UuidBytes {
+    private UuidBytes() {
+    }
+
+    public static byte[] of(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID toUuid(byte[] raw) {
+        if (raw == null || raw.length != 16)
+            throw new IllegalArgumentException("BINARY(16) expected");
+        ByteBuffer bb = ByteBuffer.wrap(raw);
+        return new UUID(bb.getLong(), bb.getLong());
+    }
+}
@@ -4,10 +4,23 @@ import java.security.Principal;
 import java.util.List;
 import java.util.UUID;
 
+import jakarta.annotation.Nullable;
+
+/**
+ * @param teams Team-Claims aus dem Token; {@code null}, wenn nicht
+ *              eingebettet (deaktiviert oder zu viele Teams) → Prüfung
+ *              über {@code TeamAccessCache}
+ */
 public record AuthUser(
         UUID userId,
         String email,
-        List<String> roles) implements Principal {
+        List<String> roles,
+        @Nullable TeamClaims teams) implements Principal {
+
+    public AuthUser(UUID userId, String email, List<String> roles) {
+        this(userId, email, roles, null);
+    }
+
     @Override
     public String getName() {
         return email;
@@ -0,0 +1,112 @@
+package com.teamanalyzer.teamanalyzer.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bereits verifizierte Access-Tokens → Principal + Authorities, bis zum
+ * {@code exp} des Tokens (danach kein Treffer mehr). Schlüssel ist der
+ * SHA-256 des Tokens, damit keine Bearer-Tokens im Heap gehalten werden.
+ * Nur gültige Tokens werden gecacht; Größe begrenzt
+ * ({@code app.jwt.auth-cache.maximum-size}), Metriken unter
+ * {@code cache.*{cache=jwt.auth}}.
+ */
+@Component
+public class JwtAuthCache {
+
+    /** Ergebnis einer erfolgreichen Verifikation (unveränderlich). */
+    public record Entry(AuthUser principal, List<SimpleGrantedAuthority> authorities, Instant expiresAt) {
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        Entry load() throws Exception;
+    }
+
+    private final Cache<ByteBuffer, Entry> cache;
+    private final AppClock clock;
+    private final boolean enabled;
+
+    public JwtAuthCache(AppClock clock, MeterRegistry registry,
+            @Value("${app.jwt.auth-cache.enabled:true}") boolean enabled,
+            @Value("${app.jwt.auth-cache.maximum-size:10000}") long maximumSize) {
+        this.clock = clock;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<ByteBuffer, Entry>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, Entry value, long currentTime) {
+                        return untilExpiry(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, Entry value, long currentTime,
+                            long currentDuration) {
+                        return untilExpiry(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, Entry value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.auth");
+    }
+
+    /**
+     * Treffer, solange das Token nicht abgelaufen ist; sonst
+     * {@code loader} (verifiziert) und Ergebnis cachen. Fehler des Loaders
+     * werden unverändert weitergereicht und nicht gecacht.
+     */
+    public Entry get(String token, Loader loader) throws Exception {
+        if (!enabled)
+            return loader.load();
+        ByteBuffer key = keyOf(token);
+        Entry hit = cache.getIfPresent(key);
+        if (hit != null && clock.now().isBefore(hit.expiresAt()))
+            return hit;
+        Entry loaded = loader.load();
+        cache.put(key, loaded);
+        return loaded;
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private long untilExpiry(Entry e) {
+        long seconds = Duration.between(clock.now(), e.expiresAt()).getSeconds();
+        return seconds <= 0 ? 0 : TimeUnit.SECONDS.toNanos(seconds); // sättigt statt Überlauf
+    }
+
+    private static ByteBuffer keyOf(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+}
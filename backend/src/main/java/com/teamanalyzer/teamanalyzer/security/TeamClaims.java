@@ -0,0 +1,60 @@
+package com.teamanalyzer.teamanalyzer.security;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Team-Mitgliedschaften aus dem Access-Token: Team-IDs, Leader-Teams und
+ * die Claims-Version, mit der das Token ausgestellt wurde. IDs stehen im
+ * Token kompakt als Base64URL der 16 UUID-Bytes (22 statt 36 Zeichen).
+ */
+public record TeamClaims(int version, Set<UUID> teams, Set<UUID> leaderOf) {
+
+    public static final String CLAIM_VERSION = "tcv";
+    public static final String CLAIM_TEAMS = "tms";
+    public static final String CLAIM_LEADER = "tld";
+
+    public TeamClaims {
+        teams = Set.copyOf(teams);
+        leaderOf = Set.copyOf(leaderOf);
+    }
+
+    public boolean isMember(UUID teamId) {
+        return teams.contains(teamId);
+    }
+
+    public boolean isLeader(UUID teamId) {
+        return leaderOf.contains(teamId);
+    }
+
+    public boolean isLeaderAnywhere() {
+        return !leaderOf.isEmpty();
+    }
+
+    public static List<String> encode(Collection<UUID> ids) {
+        return ids.stream().map(TeamClaims::encode).toList();
+    }
+
+    public static Set<UUID> decode(Collection<?> ids) {
+        return ids.stream().map(String::valueOf).map(TeamClaims::decode).collect(Collectors.toSet());
+    }
+
+    static String encode(UUID id) {
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        bb.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bb.array());
+    }
+
+    static UUID decode(String compact) {
+        byte[] raw = Base64.getUrlDecoder().decode(compact);
+        if (raw.length != 16)
+            throw new IllegalArgumentException("Invalid team id");
+        ByteBuffer bb = ByteBuffer.wrap(raw);
+        return new UUID(bb.getLong(), bb.getLong());
+    }
+}
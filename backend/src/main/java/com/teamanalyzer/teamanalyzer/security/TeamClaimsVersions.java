@@ -0,0 +1,68 @@
+package com.teamanalyzer.teamanalyzer.security;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamanalyzer.teamanalyzer.repo.UserRepository;
+import com.teamanalyzer.teamanalyzer.service.TeamMembershipChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Aktuelle Claims-Version je User. Mitgliedschaftsänderungen erhöhen sie
+ * in der Tx des Aufrufers ({@code users.claims_version}); nach dem Commit
+ * wird der lokale Eintrag verworfen. Access-Tokens mit älterer Version
+ * gelten als veraltet. Die TTL begrenzt, wie lange andere Knoten eine
+ * Änderung übersehen. Ohne {@code app.jwt.team-claims.enabled} gibt es
+ * keine Tokens mit Team-Claims; die Version wird dann nicht erhöht.
+ */
+@Component
+public class TeamClaimsVersions {
+
+    private final Cache<UUID, Integer> cache;
+    private final UserRepository userRepo;
+    private final boolean enabled;
+
+    public TeamClaimsVersions(
+            UserRepository userRepo,
+            MeterRegistry registry,
+            @Value("${app.jwt.team-claims.enabled:false}") boolean enabled,
+            @Value("${app.jwt.team-claims.version-cache-size:100000}") long maximumSize,
+            @Value("${app.jwt.team-claims.version-ttl:1m}") Duration ttl) {
+        this.userRepo = userRepo;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.claims-version");
+    }
+
+    /** Token wurde vor der letzten Mitgliedschaftsänderung ausgestellt. */
+    public boolean isStale(UUID userId, TeamClaims claims) {
+        Integer current = cache.get(userId, id -> userRepo.findClaimsVersionById(id).orElse(null));
+        return current == null || claims.version() < current;
+    }
+
+    /** Läuft synchron in der Tx der Änderung. */
+    @EventListener
+    public void bump(TeamMembershipChangedEvent event) {
+        if (enabled && !event.userIds().isEmpty())
+            userRepo.bumpClaimsVersion(event.userIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(TeamMembershipChangedEvent event) {
+        cache.invalidateAll(event.userIds());
+    }
+}
@@ -3,8 +3,10 @@ package com.teamanalyzer.teamanalyzer.service;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Base64;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -21,6 +23,9 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.teamanalyzer.teamanalyzer.domain.User;
 import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.repo.MembershipView;
+import com.teamanalyzer.teamanalyzer.repo.TeamMemberRepository;
+import com.teamanalyzer.teamanalyzer.security.TeamClaims;
 
 @Component
 public class JwtService {
@@ -30,13 +35,23 @@ public class JwtService {
     private final long ttlMinutes;
     private final JWSAlgorithm alg;
     private final JWSHeader header;
+    /** Nimbus-Signer/-Verifier sind thread-sicher → einmal anlegen, wiederverwenden. */
+    private final MACSigner signer;
+    private final MACVerifier verifier;
     private final AppClock clock; 
+    private final TeamMemberRepository tmRepo;
+    /** Team-Claims einbetten; ab {@code teamClaimsMaxTeams} Teams nicht (Token-Größe). */
+    private final boolean teamClaimsEnabled;
+    private final int teamClaimsMaxTeams;
 
     public JwtService(
             @Value("${app.jwt.secret}") String secretBase64,
             @Value("${app.auth.issuer}") String issuer,
             @Value("${app.jwt.ttl-minutes:60}") long ttlMinutes,
-            AppClock clock) {
+            AppClock clock,
+            TeamMemberRepository tmRepo,
+            @Value("${app.jwt.team-claims.enabled:false}") boolean teamClaimsEnabled,
+            @Value("${app.jwt.team-claims.max-teams:50}") int teamClaimsMaxTeams) {
 
         this.key = Base64.getDecoder().decode(secretBase64 == null ? "" : secretBase64);
         if (this.key.length >= 64) {
@@ -48,9 +63,18 @@ public class JwtService {
                     "app.jwt.secret (Base64) ist zu kurz: mindestens 256 Bit (32 Bytes) erforderlich");
         }
         this.header = new JWSHeader(this.alg);
+        try {
+            this.signer = new MACSigner(this.key);
+            this.verifier = new MACVerifier(this.key);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Cannot init JWT MAC", e);
+        }
         this.issuer = issuer;
         this.ttlMinutes = ttlMinutes;
         this.clock = clock; 
+        this.tmRepo = tmRepo;
+        this.teamClaimsEnabled = teamClaimsEnabled;
+        this.teamClaimsMaxTeams = teamClaimsMaxTeams;
     }
 
     public String createAccessToken(User u) {
@@ -63,29 +87,51 @@ public class JwtService {
         Instant now = clock.now();
         Instant expI = now.plus(ttlMinutes, ChronoUnit.MINUTES);
 
-        var claims = new JWTClaimsSet.Builder()
+        var builder = new JWTClaimsSet.Builder()
                 .issuer(issuer)
                 .subject(u.getEmail())
                 .claim("uid", u.getId().toString())
                 .claim("email", u.getEmail())
                 .claim("roles", roles)
                 .issueTime(Date.from(now))
-                .expirationTime(Date.from(expI))
-                .build();
+                .expirationTime(Date.from(expI));
+        if (teamClaimsEnabled)
+            addTeamClaims(builder, u);
+        var claims = builder.build();
 
         var jwt = new SignedJWT(header, claims);
         try {
-            jwt.sign(new MACSigner(key));
+            jwt.sign(signer);
             return jwt.serialize();
         } catch (JOSEException e) {
             throw new IllegalStateException("Failed to sign access token", e);
         }
     }
 
+    /**
+     * Mitgliedschaften kompakt ins Token; bei mehr als
+     * {@code app.jwt.team-claims.max-teams} Teams ohne Team-Claims
+     * (Prüfung dann über den {@code TeamAccessCache}).
+     */
+    private void addTeamClaims(JWTClaimsSet.Builder builder, User u) {
+        List<MembershipView> memberships = tmRepo.findMembershipsByUserId(u.getId());
+        if (memberships.size() > teamClaimsMaxTeams)
+            return;
+        List<UUID> teams = new ArrayList<>(memberships.size());
+        List<UUID> leaderOf = new ArrayList<>();
+        for (MembershipView m : memberships) {
+            teams.add(m.getTeamId());
+            if (m.isLeader())
+                leaderOf.add(m.getTeamId());
+        }
+        builder.claim(TeamClaims.CLAIM_VERSION, u.getClaimsVersion())
+                .claim(TeamClaims.CLAIM_TEAMS, TeamClaims.encode(teams))
+                .claim(TeamClaims.CLAIM_LEADER, TeamClaims.encode(leaderOf));
+    }
+
     public JWTClaimsSet validate(String token) {
         try {
             var jwt = SignedJWT.parse(token);
-            var verifier = new MACVerifier(key);
             if (!jwt.verify(verifier)) {
                 throw new BadCredentialsException("Invalid signature");
             }
@@ -0,0 +1,199 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.teamanalyzer.teamanalyzer.domain.TimeOrderedUuid;
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.port.EmailSender;
+import com.teamanalyzer.teamanalyzer.port.EmailSender.Mail;
+import com.teamanalyzer.teamanalyzer.repo.MailOutboxRepository;
+import com.teamanalyzer.teamanalyzer.repo.MailOutboxRepository.NewMail;
+import com.teamanalyzer.teamanalyzer.repo.MailOutboxRepository.OutboxMail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Transaktionale Mail-Outbox. {@link #enqueue} schreibt in der fachlichen
+ * Tx des Aufrufers (kein SMTP im Request-Thread; Rollback → keine Mail).
+ * Der Dispatcher ({@link #dispatchDue()}) holt fällige Mails bündelweise
+ * per {@code SKIP LOCKED}, versendet jedes Bündel über eine
+ * SMTP-Verbindung und plant Fehlschläge mit exponentiellem Backoff neu ein;
+ * nach {@code max-attempts} Versuchen → FAILED.
+ *
+ * <p>
+ * Dedup: gleicher {@code dedupKey} → nur eine Zeile (DB-Unique); gleiche
+ * Mail an denselben Empfänger innerhalb eines Bündels → ein Versand.
+ * Zustellung ist mindestens einmal (Absturz nach SMTP, vor dem Commit →
+ * erneuter Versand nach Ablauf der Lease).
+ */
+@Service
+public class MailOutboxService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MailOutboxService.class);
+
+    private final MailOutboxRepository outboxRepo;
+    private final EmailSender emailSender;
+    private final AppClock clock;
+    private final TransactionTemplate tx;
+
+    private final boolean mailEnabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    private final Counter enqueued;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    public MailOutboxService(MailOutboxRepository outboxRepo, EmailSender emailSender, AppClock clock,
+            PlatformTransactionManager txManager, MeterRegistry registry,
+            @Value("${app.mail.enabled:false}") boolean mailEnabled,
+            @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+            @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.mail.outbox.lease:5m}") Duration lease,
+            @Value("${app.mail.outbox.backoff:30s}") Duration backoff,
+            @Value("${app.mail.outbox.max-backoff:1h}") Duration maxBackoff) {
+        this.outboxRepo = outboxRepo;
+        this.emailSender = emailSender;
+        this.clock = clock;
+        this.tx = new TransactionTemplate(txManager);
+        this.mailEnabled = mailEnabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+
+        this.enqueued = counter(registry, "enqueued");
+        this.sent = counter(registry, "sent");
+        this.retried = counter(registry, "retried");
+        this.failed = counter(registry, "failed");
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("mail.outbox")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /** Mail ohne Dedup vormerken. */
+    @Transactional
+    public boolean enqueue(String to, String subject, String text) {
+        return enqueue(to, subject, text, null);
+    }
+
+    /**
+     * Mail in der laufenden Tx vormerken.
+     *
+     * @return {@code false}, wenn Mailversand deaktiviert ist oder
+     *         {@code dedupKey} bereits vorgemerkt wurde
+     */
+    @Transactional
+    public boolean enqueue(String to, String subject, String text, String dedupKey) {
+        if (!mailEnabled)
+            return false;
+        boolean inserted = outboxRepo.insert(new NewMail(TimeOrderedUuid.next(), to, subject, text, dedupKey),
+                clock.now());
+        if (inserted)
+            enqueued.increment();
+        return inserted;
+    }
+
+    /**
+     * Mehrere Mails in der laufenden Tx vormerken (ein JDBC-Batch), Schlüssel
+     * = {@code dedupKey}. No-op, wenn Mailversand deaktiviert ist.
+     */
+    @Transactional
+    public void enqueueAll(Map<String, Mail> byDedupKey) {
+        if (!mailEnabled || byDedupKey.isEmpty())
+            return;
+        List<NewMail> rows = new ArrayList<>(byDedupKey.size());
+        byDedupKey.forEach((key, m) -> rows.add(new NewMail(TimeOrderedUuid.next(), m.to(), m.subject(), m.text(), key)));
+        outboxRepo.insertAll(rows, clock.now());
+        enqueued.increment(rows.size());
+    }
+
+    /** Arbeitet fällige Mails ab, solange volle Bündel anliegen. */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:5s}")
+    public void dispatchDue() {
+        if (!mailEnabled)
+            return;
+        try {
+            while (dispatch() == batchSize) {
+                // weiter, bis die Outbox leer ist
+            }
+        } catch (RuntimeException ex) {
+            LOG.warn("Mail-Outbox: Dispatch fehlgeschlagen: {}", ex.toString());
+        }
+    }
+
+    /** Ein Bündel: claimen (eigene Tx), senden (ohne Tx), Ergebnis schreiben. */
+    int dispatch() {
+        Instant now = clock.now();
+        List<OutboxMail> batch = tx.execute(s -> outboxRepo.claimDue(now, now.plus(lease), batchSize));
+        if (batch == null || batch.isEmpty())
+            return 0;
+
+        Map<Mail, List<OutboxMail>> byMail = new LinkedHashMap<>();
+        for (OutboxMail m : batch) {
+            byMail.computeIfAbsent(new Mail(m.recipient(), m.subject(), m.body()), k -> new ArrayList<>()).add(m);
+        }
+        List<Mail> mails = new ArrayList<>(byMail.keySet());
+        Map<Integer, Exception> errors = emailSender.sendAll(mails);
+
+        List<UUID> ok = new ArrayList<>();
+        Map<OutboxMail, Exception> failures = new LinkedHashMap<>();
+        for (int i = 0; i < mails.size(); i++) {
+            Exception err = errors.get(i);
+            for (OutboxMail m : byMail.get(mails.get(i))) {
+                if (err == null)
+                    ok.add(m.id());
+                else
+                    failures.put(m, err);
+            }
+        }
+
+        Instant done = clock.now();
+        tx.executeWithoutResult(s -> {
+            if (!ok.isEmpty())
+                outboxRepo.markSent(ok, done);
+            failures.forEach((m, err) -> {
+                if (m.attempts() >= maxAttempts) {
+                    outboxRepo.markFailed(m.id(), err.toString());
+                    failed.increment();
+                    LOG.warn("Mail-Outbox: {} nach {} Versuchen aufgegeben: {}", m.id(), m.attempts(), err.toString());
+                } else {
+                    outboxRepo.markRetry(m.id(), done.plus(backoff(m.attempts())), err.toString());
+                    retried.increment();
+                }
+            });
+        });
+        sent.increment(ok.size());
+        return batch.size();
+    }
+
+    /** backoff · 2^(attempt-1), gedeckelt auf max-backoff. */
+    Duration backoff(int attempt) {
+        Duration d = backoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return d.compareTo(maxBackoff) > 0 ? maxBackoff : d;
+    }
+}
@@ -1,24 +0,0 @@
-package com.teamanalyzer.teamanalyzer.service;
-
-
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.stereotype.Service;
-
-@Service
-public class MailService {
-  private final JavaMailSender sender;
-
-  public MailService(JavaMailSender sender) {
-    this.sender = sender;
-  }
-
-  public void send(String to, String subject, String text) {
-    SimpleMailMessage msg = new SimpleMailMessage();
-    msg.setTo(to);
-    msg.setSubject(subject);
-    msg.setText(text);
-    sender.send(msg);
-  }
-}
-
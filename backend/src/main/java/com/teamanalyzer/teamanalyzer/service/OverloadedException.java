@@ -0,0 +1,32 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 503 mit {@code Retry-After}: Überlast, der Client soll es nach
+ * {@code retryAfter} erneut versuchen.
+ */
+public class OverloadedException extends ResponseStatusException {
+
+    private final Duration retryAfter;
+
+    public OverloadedException(String reason, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        return headers;
+    }
+}
@@ -3,7 +3,6 @@ package com.teamanalyzer.teamanalyzer.service;
 
 import com.teamanalyzer.teamanalyzer.domain.User;
 import com.teamanalyzer.teamanalyzer.port.AppClock;
-import com.teamanalyzer.teamanalyzer.port.EmailSender;
 import com.teamanalyzer.teamanalyzer.port.PasswordHasher;
 import com.teamanalyzer.teamanalyzer.repo.UserRepository;
 import org.slf4j.Logger;
@@ -22,23 +21,20 @@ public class PasswordResetService {
     private static final Logger log = LoggerFactory.getLogger(PasswordResetService.class);
 
     private final UserRepository userRepository;
-    private final EmailSender emailSender;
+    private final MailOutboxService mailOutbox;
     private final PasswordHasher passwordHasher;
     private final AppClock clock;
 
     @Value("${app.frontend-base-url:http://localhost:5173}")
     private String frontendBaseUrl;
 
-    @Value("${app.mail.enabled:false}")
-    private boolean mailEnabled;
-
     @Value("${app.password-reset.ttl-hours:1}")
     private long ttlHours;
 
-    public PasswordResetService(UserRepository userRepository, EmailSender emailSender,
+    public PasswordResetService(UserRepository userRepository, MailOutboxService mailOutbox,
             PasswordHasher passwordHasher, AppClock clock) {
         this.userRepository = userRepository;
-        this.emailSender = emailSender;
+        this.mailOutbox = mailOutbox;
         this.passwordHasher = passwordHasher;
         this.clock = clock;
     }
@@ -58,12 +54,11 @@ public class PasswordResetService {
         if (log.isDebugEnabled())
             log.debug("DEV: Password reset link for {} -> {}", email, link);
 
-        if (mailEnabled) {
-            String subject = "Password Reset for Team Analyzer";
-            String body = "Hello,\n\nTo reset your password, click:\n" + link +
-                    "\n\nIf you did not request this, you can ignore this email.";
-            emailSender.send(user.getEmail(), subject, body);
-        }
+        // in derselben Tx wie der Reset-Token (no-op bei app.mail.enabled=false)
+        String subject = "Password Reset for Team Analyzer";
+        String body = "Hello,\n\nTo reset your password, click:\n" + link +
+                "\n\nIf you did not request this, you can ignore this email.";
+        mailOutbox.enqueue(user.getEmail(), subject, body);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,59 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamanalyzer.teamanalyzer.domain.QuestionSet;
+import com.teamanalyzer.teamanalyzer.repo.SurveyQuestionRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Fragen eines Surveys sind nach {@code createSurvey} unveränderlich und
+ * werden daher je Survey einmal geladen und als {@link QuestionSet}
+ * gehalten (Größe begrenzt, Ablauf nach Inaktivität). Leere Ergebnisse
+ * (unbekanntes oder noch nicht committetes Survey) werden nicht gecacht.
+ * Wird Bearbeiten von Fragen eingeführt, muss dort {@link #evict(UUID)}
+ * aufgerufen werden.
+ */
+@Component
+public class QuestionSetCache {
+
+    private final Cache<UUID, QuestionSet> cache;
+    private final SurveyQuestionRepository questionRepo;
+
+    public QuestionSetCache(
+            SurveyQuestionRepository questionRepo,
+            MeterRegistry registry,
+            @Value("${app.question-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.question-cache.expire-after-access:1h}") Duration expireAfterAccess) {
+        this.questionRepo = questionRepo;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "survey.questions");
+    }
+
+    /** Fragen nach idx; {@link QuestionSet#EMPTY}, wenn keine existieren. */
+    public QuestionSet get(UUID surveyId) {
+        QuestionSet qs = cache.get(surveyId, this::load);
+        return qs != null ? qs : QuestionSet.EMPTY;
+    }
+
+    public void evict(UUID surveyId) {
+        cache.invalidate(surveyId);
+    }
+
+    private QuestionSet load(UUID surveyId) {
+        QuestionSet qs = QuestionSet.of(questionRepo.findBySurveyIdOrderByIdx(surveyId));
+        return qs.isEmpty() ? null : qs; // null → Caffeine legt keinen Eintrag an
+    }
+}
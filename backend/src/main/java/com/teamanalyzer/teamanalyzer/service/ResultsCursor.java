@@ -0,0 +1,55 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.teamanalyzer.teamanalyzer.repo.UuidBytes;
+
+/**
+ * Opaker Keyset-Cursor über (created_at, id) einer Abgabe.
+ * Format: Base64-URL (ohne Padding) von 8 Byte Epoch-Millis + 16 Byte UUID.
+ */
+public record ResultsCursor(Instant createdAt, UUID id) {
+
+    private static final int LENGTH = 8 + 16;
+
+    /** Liegt dieser Cursor vor (createdAt, id)? Vergleich wie in MySQL (BINARY bytewise). */
+    public boolean isBefore(Instant otherCreatedAt, UUID otherId) {
+        int c = Long.compare(createdAt.toEpochMilli(), otherCreatedAt.toEpochMilli());
+        if (c != 0)
+            return c < 0;
+        return Arrays.compareUnsigned(UuidBytes.of(id), UuidBytes.of(otherId)) < 0;
+    }
+
+    public String encode() {
+        byte[] raw = ByteBuffer.allocate(LENGTH)
+                .putLong(createdAt.toEpochMilli())
+                .put(UuidBytes.of(id))
+                .array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /** Leerer/fehlender Cursor → {@code null} (= ab der ersten Abgabe). */
+    public static ResultsCursor decode(String token) {
+        if (token == null || token.isBlank())
+            return null;
+        try {
+            byte[] raw = Base64.getUrlDecoder().decode(token.trim());
+            if (raw.length != LENGTH)
+                throw new IllegalArgumentException("length");
+            ByteBuffer bb = ByteBuffer.wrap(raw);
+            Instant ts = Instant.ofEpochMilli(bb.getLong());
+            byte[] id = new byte[16];
+            bb.get(id);
+            return new ResultsCursor(ts, UuidBytes.toUuid(id));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.results.cursor");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Request-Coalescing: gleichzeitige Aufrufe für denselben Key teilen sich eine
+ * laufende Berechnung. Der erste Aufrufer (Leader) rechnet im eigenen Thread,
+ * alle weiteren warten auf dessen Future.
+ *
+ * <ul>
+ * <li>Fehler des Leaders werden an alle Wartenden weitergereicht; danach ist
+ * der Key wieder frei (kein Caching von Fehlern).</li>
+ * <li>Wartende geben nach {@code timeout} mit 503 auf; der Leader rechnet
+ * unbeeinflusst weiter.</li>
+ * </ul>
+ * Zähler: {@code singleflight.calls{name, result=leader|coalesced|timeout}}.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inflight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry registry) {
+        this.timeout = timeout;
+        this.leaders = counter(registry, name, "leader");
+        this.coalesced = counter(registry, name, "coalesced");
+        this.timeouts = counter(registry, name, "timeout");
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String result) {
+        return Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inflight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        leaders.increment();
+        try {
+            V value = computation.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    /** Anzahl gerade laufender Berechnungen (für Tests/Diagnose). */
+    public int inflightCount() {
+        return inflight.size();
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "error.results.busy");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "error.results.busy");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re)
+                throw re;
+            if (cause instanceof Error err)
+                throw err;
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamanalyzer.teamanalyzer.domain.QuestionSet;
+import com.teamanalyzer.teamanalyzer.repo.SurveyExportRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyResultSnapshotRepository;
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streamt Survey-Ergebnisse direkt in einen OutputStream (JSON, CSV, NDJSON).
+ * Aggregate kommen aus dem Stats-Read-Model, Einzelantworten zeilenweise
+ * aus dem JDBC-Cursor – der Speicherbedarf ist unabhängig von der Anzahl
+ * der Abgaben.
+ */
+@Service
+@RequiredArgsConstructor
+public class SurveyExportService {
+
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON, "json"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+        public final MediaType mediaType;
+        public final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public static Format parse(String raw) {
+            if (raw == null || raw.isBlank())
+                return JSON;
+            try {
+                return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.export.format");
+            }
+        }
+    }
+
+    private final SurveyService surveyService;
+    private final QuestionSetCache questionSets;
+    private final SurveyExportRepository exportRepo;
+    private final SurveyResultSnapshotRepository snapshotRepo;
+    private final ObjectMapper objectMapper;
+
+    public void write(UUID surveyId, Format format, OutputStream out) throws IOException {
+        switch (format) {
+            case JSON -> writeJson(surveyId, out);
+            case CSV -> writeCsv(surveyId, out);
+            case NDJSON -> writeNdjson(surveyId, out);
+        }
+    }
+
+    /** Gleiche Struktur wie {@link SurveyResultsDto}, aber items werden gestreamt. */
+    private void writeJson(UUID surveyId, OutputStream out) throws IOException {
+        SurveyResultsDto agg = surveyService.getResults(surveyId, false);
+        QuestionSet questions = questionSets.get(surveyId);
+
+        try (JsonGenerator g = objectMapper.getFactory().createGenerator(out)) {
+            g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            g.useDefaultPrettyPrinter();
+            g.writeStartObject();
+            g.writeNumberField("a1", agg.a1());
+            g.writeNumberField("a2", agg.a2());
+            g.writeNumberField("a3", agg.a3());
+            g.writeNumberField("a4", agg.a4());
+            g.writeNumberField("a5", agg.a5());
+            g.writeNumberField("n", agg.n());
+            g.writeArrayFieldStart("items");
+            forEachResponse(surveyId, (responseId, createdAt, answers) -> {
+                g.writeStartObject();
+                g.writeStringField("responseId", responseId.toString());
+                g.writeObjectFieldStart("answers");
+                for (int i = 0; i < answers.length && i < questions.size(); i++) {
+                    if (answers[i] != 0)
+                        g.writeNumberField(questions.id(i).toString(), answers[i]);
+                }
+                g.writeEndObject();
+                g.writeEndObject();
+            });
+            g.writeEndArray();
+            g.writeEndObject();
+        }
+    }
+
+    private void writeCsv(UUID surveyId, OutputStream out) throws IOException {
+        Writer w = writer(out);
+        StringBuilder header = new StringBuilder("response_id,submitted_at");
+        for (int i = 1; i <= SurveyService.QUESTION_COUNT; i++)
+            header.append(",q").append(i);
+        w.write(header.append('\n').toString());
+
+        forEachResponse(surveyId, (responseId, createdAt, answers) -> {
+            w.write(responseId.toString());
+            w.write(',');
+            w.write(iso(createdAt));
+            for (short v : answers) {
+                w.write(',');
+                if (v != 0)
+                    w.write(Short.toString(v));
+            }
+            w.write('\n');
+        });
+        w.flush();
+    }
+
+    private void writeNdjson(UUID surveyId, OutputStream out) throws IOException {
+        Writer w = writer(out);
+        forEachResponse(surveyId, (responseId, createdAt, answers) -> {
+            w.write("{\"responseId\":\"");
+            w.write(responseId.toString());
+            w.write("\",\"submittedAt\":");
+            w.write(createdAt != null ? "\"" + createdAt + "\"" : "null");
+            w.write(",\"answers\":[");
+            for (int i = 0; i < answers.length; i++) {
+                if (i > 0)
+                    w.write(',');
+                w.write(answers[i] != 0 ? Short.toString(answers[i]) : "null");
+            }
+            w.write("]}\n");
+        });
+        w.flush();
+    }
+
+    /** Geschlossene Surveys nur aus dem Snapshot, offene per JDBC-Cursor. */
+    private void forEachResponse(UUID surveyId, SurveyExportRepository.ResponseHandler handler) throws IOException {
+        var snapshot = snapshotRepo.findById(surveyId);
+        if (snapshot.isPresent()) {
+            snapshot.get().forEachItem(handler::onResponse);
+        } else {
+            exportRepo.forEachResponse(surveyId, SurveyService.QUESTION_COUNT, handler);
+        }
+    }
+
+    private static Writer writer(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192);
+    }
+
+    private static String iso(Instant t) {
+        return t != null ? t.toString() : "";
+    }
+}
@@ -0,0 +1,98 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.teamanalyzer.teamanalyzer.domain.SurveyResultSnapshot;
+import com.teamanalyzer.teamanalyzer.domain.SurveyStatus;
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.repo.SurveyExportRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyResultSnapshotRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyTokenRepository;
+
+/**
+ * Lebenszyklus OPEN → CLOSED. Schließen läuft in zwei Transaktionen:
+ * <ol>
+ * <li>Alle offenen Tokens set-basiert widerrufen, dann Status per CAS auf
+ * CLOSED setzen. Laufende Abgaben halten ihren Token-Lock und brauchen
+ * danach die Survey-Zeile (FK, Stats-Sperre); das Widerrufen wartet auf
+ * sie, ohne die Survey-Zeile schon zu halten. Sperrreihenfolge also wie
+ * bei der Abgabe: Token-Zeilen vor Survey-Zeile.</li>
+ * <li>Finale Ergebnisse einmalig aus den Rohdaten lesen und als kompakten,
+ * unveränderlichen Snapshot ablegen.</li>
+ * </ol>
+ */
+@Service
+public class SurveyLifecycleService {
+
+    private final SurveyRepository surveyRepo;
+    private final SurveyTokenRepository tokenRepo;
+    private final SurveyResultSnapshotRepository snapshotRepo;
+    private final SurveyExportRepository exportRepo;
+    private final ApplicationEventPublisher events;
+    private final AppClock clock;
+    private final TransactionTemplate tx;
+
+    public SurveyLifecycleService(SurveyRepository surveyRepo, SurveyTokenRepository tokenRepo,
+            SurveyResultSnapshotRepository snapshotRepo, SurveyExportRepository exportRepo,
+            ApplicationEventPublisher events, AppClock clock, PlatformTransactionManager txManager) {
+        this.surveyRepo = surveyRepo;
+        this.tokenRepo = tokenRepo;
+        this.snapshotRepo = snapshotRepo;
+        this.exportRepo = exportRepo;
+        this.events = events;
+        this.clock = clock;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    public record CloseResult(UUID surveyId, int revokedTokens, int responses) {
+    }
+
+    public CloseResult close(UUID surveyId) {
+        Integer revoked = tx.execute(status -> {
+            int tokens = tokenRepo.revokeAllActiveForSurvey(surveyId);
+            if (surveyRepo.closeIfOpen(surveyId, clock.now()) == 0) {
+                SurveyStatus current = surveyRepo.findStatusById(surveyId)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+                // geschlossen, aber Snapshot fehlt (Abbruch nach Tx 1) → nur Snapshot nachziehen
+                if (current != SurveyStatus.CLOSED || snapshotRepo.existsById(surveyId))
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "error.surveys.alreadyClosed");
+            }
+            return tokens;
+        });
+
+        SurveyResultSnapshot snap = tx.execute(status -> {
+            SurveyResultSnapshot s = buildSnapshot(surveyId);
+            snapshotRepo.save(s);
+            events.publishEvent(new SurveyResultsChangedEvent(surveyId));
+            return s;
+        });
+        return new CloseResult(surveyId, revoked == null ? 0 : revoked, snap.getResponseCount());
+    }
+
+    /** Snapshot eines geschlossenen Surveys, sonst leer. */
+    @Transactional(readOnly = true)
+    public Optional<SurveyResultSnapshot> findSnapshot(UUID surveyId) {
+        return snapshotRepo.findById(surveyId);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isClosed(UUID surveyId) {
+        return surveyRepo.findStatusById(surveyId).map(s -> s == SurveyStatus.CLOSED).orElse(false);
+    }
+
+    private SurveyResultSnapshot buildSnapshot(UUID surveyId) {
+        var b = SurveyResultSnapshot.builder(surveyId, SurveyService.QUESTION_COUNT);
+        exportRepo.forEachResponse(surveyId, SurveyService.QUESTION_COUNT, b::add);
+        return b.build();
+    }
+}
@@ -0,0 +1,300 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.teamanalyzer.teamanalyzer.domain.SurveyAnalytics;
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestionStats;
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsLiveDto;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-Process-Fan-out für Live-Ergebnisse (SSE). Je Survey ein Kanal: nach
+ * jedem Commit wird das Aggregat genau einmal aus dem Stats-Read-Model
+ * gelesen und an alle Abonnenten verteilt.
+ *
+ * <p>
+ * Langsame Clients blockieren keine Request-Threads: jeder Abonnent hat
+ * genau einen „latest value“-Slot (ältere, noch nicht gesendete Stände werden
+ * überschrieben) und wird von einem kleinen, begrenzten Pool bedient.
+ * {@code SseEmitter.send} schreibt blockierend; hängt ein Write länger als
+ * {@code app.sse.write-timeout}, wird der Abonnent verworfen und sein
+ * Sender-Thread unterbrochen. Ein gestauter Client belegt einen Pool-Thread
+ * so höchstens etwa {@code write-timeout} (+ halbes Prüfintervall); endet
+ * der Socket-Write trotz Interrupt nicht, greift der Schreib-Timeout des
+ * Containers.
+ */
+@Component
+public class SurveyResultsBroadcaster {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SurveyResultsBroadcaster.class);
+    private static final String EVENT_NAME = "results";
+
+    private final SurveyStatsService statsService;
+    private final Duration timeout;
+    private final long writeTimeoutNanos;
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService heartbeat;
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+
+    public SurveyResultsBroadcaster(
+            SurveyStatsService statsService,
+            @Value("${app.sse.timeout:30m}") Duration timeout,
+            @Value("${app.sse.heartbeat:20s}") Duration heartbeatInterval,
+            @Value("${app.sse.write-timeout:5s}") Duration writeTimeout,
+            @Value("${app.sse.threads:4}") int threads,
+            @Value("${app.sse.queue-capacity:1000}") int queueCapacity) {
+        this.statsService = statsService;
+        this.timeout = timeout;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.senders = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "sse-results");
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.senders.allowCoreThreadTimeOut(true);
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sse-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        long hb = heartbeatInterval.toMillis();
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, hb, hb, TimeUnit.MILLISECONDS);
+        long check = Math.max(10, writeTimeout.toMillis() / 2);
+        this.heartbeat.scheduleAtFixedRate(this::expireStalledWriters, check, check, TimeUnit.MILLISECONDS);
+    }
+
+    /** Neuer Abonnent; erhält sofort den aktuellen Stand. */
+    public SseEmitter subscribe(UUID surveyId) {
+        SseEmitter emitter = createEmitter();
+        Subscriber sub = new Subscriber(surveyId, emitter);
+        // atomar je Key, damit ein gleichzeitig leer werdender Kanal nicht verloren geht
+        channels.compute(surveyId, (id, ch) -> {
+            Channel c = (ch != null) ? ch : new Channel(id);
+            c.subscribers.add(sub);
+            return c;
+        });
+        emitter.onCompletion(sub::remove);
+        emitter.onTimeout(sub::remove);
+        emitter.onError(e -> sub.remove());
+        sub.offer(load(surveyId));
+        return emitter;
+    }
+
+    /** Nach Commit: Kanal neu laden (gebündelt, falls schon ein Refresh ansteht). */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResultsChanged(SurveyResultsChangedEvent e) {
+        Channel ch = channels.get(e.surveyId());
+        if (ch != null && !ch.subscribers.isEmpty())
+            ch.requestRefresh();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    int subscriberCount(UUID surveyId) {
+        Channel ch = channels.get(surveyId);
+        return ch == null ? 0 : ch.subscribers.size();
+    }
+
+    private SurveyResultsLiveDto load(UUID surveyId) {
+        int q = SurveyService.QUESTION_COUNT;
+        long[] sums = new long[q];
+        long[] counts = new long[q];
+        long n = 0;
+        List<SurveyQuestionStats> stats = statsService.find(surveyId);
+        for (SurveyQuestionStats st : stats) {
+            int i = st.getIdx() - 1;
+            if (i >= 0 && i < q) {
+                sums[i] = st.getAnswerSum();
+                counts[i] = st.getAnswerCount();
+                n = Math.max(n, counts[i]);
+            }
+        }
+        return new SurveyResultsLiveDto(surveyId, Math.toIntExact(n), sums, counts,
+                SurveyAnalytics.averages(sums, counts));
+    }
+
+    private void execute(Runnable task, AtomicBoolean scheduled) {
+        try {
+            senders.execute(task);
+        } catch (RejectedExecutionException ex) {
+            // Pool ausgelastet: Stand bleibt im Slot, nächster Commit/Heartbeat holt ihn ab
+            scheduled.set(false);
+            LOG.debug("SSE sender queue full, deferring update");
+        }
+    }
+
+    private void expireStalledWriters() {
+        long now = System.nanoTime();
+        for (Channel ch : channels.values()) {
+            for (Subscriber s : ch.subscribers) {
+                s.expireIfStalled(now);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Channel ch : channels.values()) {
+            for (Subscriber s : ch.subscribers) {
+                s.heartbeat();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        senders.shutdownNow();
+        channels.values().forEach(ch -> ch.subscribers.forEach(s -> s.emitter.complete()));
+        channels.clear();
+    }
+
+    private final class Channel {
+        final UUID surveyId;
+        final CopyOnWriteArraySet<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+        Channel(UUID surveyId) {
+            this.surveyId = surveyId;
+        }
+
+        void requestRefresh() {
+            if (refreshScheduled.compareAndSet(false, true))
+                execute(this::refresh, refreshScheduled);
+        }
+
+        private void refresh() {
+            refreshScheduled.set(false); // Commits ab hier lösen einen weiteren Refresh aus
+            try {
+                SurveyResultsLiveDto state = load(surveyId);
+                for (Subscriber s : subscribers)
+                    s.offer(state);
+            } catch (RuntimeException ex) {
+                LOG.warn("SSE refresh failed for survey {}", surveyId, ex);
+            }
+        }
+    }
+
+    private final class Subscriber {
+        final UUID surveyId;
+        final SseEmitter emitter;
+        final AtomicReference<SurveyResultsLiveDto> latest = new AtomicReference<>();
+        final AtomicBoolean sendScheduled = new AtomicBoolean();
+        final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        volatile boolean expired;
+        /** Thread im laufenden {@code send} und dessen Start (Watchdog); Zugriff nur synchronisiert. */
+        private Thread writer;
+        private long writeStartedNanos;
+
+        Subscriber(UUID surveyId, SseEmitter emitter) {
+            this.surveyId = surveyId;
+            this.emitter = emitter;
+        }
+
+        /** Überschreibt einen noch nicht gesendeten Stand (Conflation). */
+        void offer(SurveyResultsLiveDto state) {
+            latest.set(state);
+            schedule();
+        }
+
+        void heartbeat() {
+            heartbeatDue.set(true);
+            schedule();
+        }
+
+        private void schedule() {
+            if (sendScheduled.compareAndSet(false, true))
+                execute(this::drain, sendScheduled);
+        }
+
+        private void drain() {
+            try {
+                SurveyResultsLiveDto d;
+                while (!expired && (d = latest.getAndSet(null)) != null) {
+                    send(SseEmitter.event()
+                            .name(EVENT_NAME)
+                            .id(Integer.toString(d.n()))
+                            .data(d, MediaType.APPLICATION_JSON));
+                }
+                if (!expired && heartbeatDue.getAndSet(false))
+                    send(SseEmitter.event().comment("ping"));
+                if (expired) {
+                    emitter.complete(); // Write kam doch noch durch, Client bleibt trotzdem verworfen
+                    return;
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client weg oder Emitter abgeschlossen
+                remove();
+                emitter.completeWithError(ex);
+                return;
+            } finally {
+                sendScheduled.set(false);
+            }
+            if (latest.get() != null)
+                schedule();
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                writer = Thread.currentThread();
+                writeStartedNanos = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (this) {
+                    writer = null;
+                    if (expired)
+                        Thread.interrupted(); // Interrupt galt nur diesem Write
+                }
+            }
+        }
+
+        /**
+         * Watchdog: Write hängt länger als {@code write-timeout} → verwerfen und
+         * Sender-Thread unterbrechen. Ruft bewusst nicht {@code complete*} auf,
+         * das wartet auf denselben Schreib-Lock wie der hängende {@code send}.
+         */
+        synchronized void expireIfStalled(long nowNanos) {
+            if (writer == null || nowNanos - writeStartedNanos < writeTimeoutNanos)
+                return;
+            expired = true;
+            remove();
+            LOG.debug("SSE write to subscriber of survey {} stalled, dropping it", surveyId);
+            writer.interrupt();
+        }
+
+        void remove() {
+            channels.computeIfPresent(surveyId, (id, ch) -> {
+                ch.subscribers.remove(this);
+                return ch.subscribers.isEmpty() ? null : ch;
+            });
+        }
+    }
+}
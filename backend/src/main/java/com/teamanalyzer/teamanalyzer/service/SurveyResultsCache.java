@@ -0,0 +1,103 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Begrenzter Cache berechneter {@link SurveyResultsDto} je (Survey, items).
+ * Gewicht = 1 + Anzahl Einzelantworten, Ablauf nach TTL. Einträge werden
+ * erst nach dem Commit einer Abgabe verworfen – ein Rollback invalidiert nie
+ * (ohne laufende Tx, z. B. Rebuild-All, sofort). Jeder Eintrag trägt die
+ * Version (ETag), unter der er berechnet wurde; weicht die vom Aufrufer
+ * gelesene Version ab, wird neu berechnet – zwischen ETag-Abfrage und
+ * Evict nach Commit gibt es so keinen veralteten Body unter neuem ETag.
+ * Gleichzeitige Misses werden per {@link SingleFlight} zusammengelegt.
+ * Hit/Miss/Eviction-Zähler unter {@code cache.*{cache=survey.results}}.
+ */
+@Component
+public class SurveyResultsCache {
+
+    record Key(UUID surveyId, boolean items) {
+    }
+
+    record Entry(String version, SurveyResultsDto body) {
+    }
+
+    private record Load(Key key, String version) {
+    }
+
+    private final Cache<Key, Entry> cache;
+    private final SingleFlight<Load, SurveyResultsDto> singleFlight;
+    /** Keys mit laufender Berechnung → Token des Leaders (Generation-Guard). */
+    private final Map<Key, Object> loading = new ConcurrentHashMap<>();
+
+    public SurveyResultsCache(
+            MeterRegistry registry,
+            @Value("${app.results-cache.maximum-weight:200000}") long maximumWeight,
+            @Value("${app.results-cache.ttl:5m}") Duration ttl,
+            @Value("${app.results-cache.coalesce-timeout:10s}") Duration coalesceTimeout) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Key k, Entry e) -> 1 + (e.body().items() == null ? 0 : e.body().items().size()))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "survey.results");
+        this.singleFlight = new SingleFlight<>("survey.results", coalesceTimeout, registry);
+    }
+
+    /**
+     * Treffer mit gleicher {@code version} direkt; sonst teilen sich
+     * gleichzeitige Aufrufer derselben Version eine Berechnung. Das Ergebnis
+     * wird nur gecacht, wenn seit Beginn der Berechnung kein Evict für den
+     * Key kam (sonst wäre es evtl. veraltet).
+     */
+    public SurveyResultsDto get(UUID surveyId, boolean items, String version, Supplier<SurveyResultsDto> loader) {
+        Key key = new Key(surveyId, items);
+        Entry hit = cache.getIfPresent(key);
+        if (hit != null) {
+            if (hit.version().equals(version))
+                return hit.body();
+            cache.asMap().remove(key, hit);
+        }
+        return singleFlight.execute(new Load(key, version), () -> {
+            Object token = new Object();
+            loading.put(key, token);
+            try {
+                SurveyResultsDto value = loader.get();
+                if (loading.remove(key, token))
+                    cache.put(key, new Entry(version, value));
+                return value;
+            } finally {
+                loading.remove(key, token);
+            }
+        });
+    }
+
+    public void evict(UUID surveyId) {
+        for (Key key : new Key[] { new Key(surveyId, true), new Key(surveyId, false) }) {
+            loading.remove(key); // laufende Berechnung darf ihr Ergebnis nicht mehr ablegen
+            cache.invalidate(key);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResultsChanged(SurveyResultsChangedEvent e) {
+        evict(e.surveyId());
+    }
+}
@@ -0,0 +1,11 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.util.UUID;
+
+/**
+ * Ergebnisse eines Surveys haben sich geändert (neue Abgabe, Stats-Rebuild).
+ * Wird innerhalb der Tx publiziert; Listener reagieren per
+ * {@code @TransactionalEventListener} erst nach dem Commit.
+ */
+public record SurveyResultsChangedEvent(UUID surveyId) {
+}
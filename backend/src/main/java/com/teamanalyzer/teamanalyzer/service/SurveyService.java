@@ -1,29 +1,52 @@
 package com.teamanalyzer.teamanalyzer.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.IntStream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.teamanalyzer.teamanalyzer.domain.AnswerStorage;
+import com.teamanalyzer.teamanalyzer.domain.LikertHistogram;
+import com.teamanalyzer.teamanalyzer.domain.QuestionSet;
 import com.teamanalyzer.teamanalyzer.domain.Survey;
 import com.teamanalyzer.teamanalyzer.domain.SurveyAnswer;
 import com.teamanalyzer.teamanalyzer.domain.SurveyAnalytics;
 import com.teamanalyzer.teamanalyzer.domain.SurveyQuestion;
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestionStats;
 import com.teamanalyzer.teamanalyzer.domain.SurveyResponse;
+import com.teamanalyzer.teamanalyzer.domain.SurveyResultSnapshot;
 import com.teamanalyzer.teamanalyzer.domain.SurveyToken;
 import com.teamanalyzer.teamanalyzer.domain.Team;
+import com.teamanalyzer.teamanalyzer.port.AppClock;
 import com.teamanalyzer.teamanalyzer.port.DigestService;
+import com.teamanalyzer.teamanalyzer.repo.QuestionAggregateView;
+import com.teamanalyzer.teamanalyzer.repo.QuestionValueCountView;
+import com.teamanalyzer.teamanalyzer.repo.ResultsVersionView;
+import com.teamanalyzer.teamanalyzer.repo.SurveyExportRepository;
 import com.teamanalyzer.teamanalyzer.repo.SurveyQuestionRepository;
 import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
 import com.teamanalyzer.teamanalyzer.repo.SurveyResponseRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyResultSnapshotRepository;
 import com.teamanalyzer.teamanalyzer.repo.TeamMemberRepository;
+import com.teamanalyzer.teamanalyzer.web.dto.SingleSurveyResultDto;
 import com.teamanalyzer.teamanalyzer.web.dto.SurveyDto;
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDetailDto;
 import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDto;
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsPageDto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,6 +55,7 @@ import lombok.RequiredArgsConstructor;
 public class SurveyService {
 
     public static final int QUESTION_COUNT = 5;
+    static final int MAX_PAGE_SIZE = 1000;
 
     private final SurveyRepository surveyRepo;
     private final SurveyQuestionRepository questionRepo;
@@ -39,6 +63,24 @@ public class SurveyService {
     private final TeamMemberRepository tmRepo;
     private final TokenService tokenService;
     private final DigestService digest;
+    private final SurveyStatsService statsService;
+    private final ApplicationEventPublisher events;
+    private final SurveyExportRepository exportRepo;
+    private final SurveyResultSnapshotRepository snapshotRepo;
+    private final QuestionSetCache questionSets;
+    private final AppClock clock;
+
+    @Value("${app.responses.storage:dual}")
+    private AnswerStorage answerStorage = AnswerStorage.DUAL;
+
+    /**
+     * Delta-Polling liefert nur Abgaben, die älter als dieser Abstand sind:
+     * created_at hat Sekundenauflösung und wird vor dem Commit gesetzt, eine
+     * kleinere ID kann also später im selben Zeitstempel sichtbar werden.
+     * Muss Sekunde + längste Submit-Tx + Uhrenabweichung abdecken.
+     */
+    @Value("${app.results.delta-settle:5s}")
+    private Duration deltaSettle = Duration.ofSeconds(5);
 
     @Transactional
     public Survey createSurvey(UUID leaderId, UUID teamId, String title, List<String> qTexts) {
@@ -65,6 +107,7 @@ public class SurveyService {
                 }).toList();
 
         questionRepo.saveAll(questions);
+        statsService.initialize(s.getId(), QUESTION_COUNT);
         return s;
     }
 
@@ -72,8 +115,30 @@ public class SurveyService {
     public SurveyDto getSurvey(UUID id) {
         Survey s = surveyRepo.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-        List<SurveyQuestion> qs = questionRepo.findBySurveyIdOrderByIdx(id);
-        return SurveyDto.from(s, qs);
+        return SurveyDto.from(s, questionSets.get(id));
+    }
+
+    /**
+     * Starker ETag der Survey-Definition aus den Versionsspalten; leer, wenn
+     * das Survey nicht existiert.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> surveyETag(UUID id) {
+        return surveyRepo.findVersionById(id)
+                .map(v -> "\"s-" + v.getSurveyVersion() + "-" + v.getTeamVersion() + "-"
+                        + v.getQuestionVersions() + "-" + v.getQuestions() + "\"");
+    }
+
+    /**
+     * Starker ETag der Ergebnisse: Anzahl Abgaben + jüngstes created_at.
+     * {@code variant} unterscheidet Darstellungen (z. B. mit/ohne items).
+     */
+    @Transactional(readOnly = true)
+    public String resultsETag(UUID surveyId, String variant) {
+        ResultsVersionView v = responseRepo.findResultsVersion(surveyId);
+        long latest = (v == null || v.getLatest() == null) ? 0 : v.getLatest().toEpochMilli();
+        long count = v == null ? 0 : v.getResponses();
+        return "\"r-" + variant + "-" + count + "-" + latest + "\"";
     }
 
     /** Plain → SHA-256 → hex → delegiert. */
@@ -87,11 +152,38 @@ public class SurveyService {
     }
 
     /**
-     * Token wird in derselben Tx gelockt & erst nach erfolgreichem Persist
-     * verbraucht.
+     * Token wird per Compare-and-Set eingelöst; scheitert das Persistieren,
+     * rollt die Tx die Einlösung mit zurück.
      */
     @Transactional
     public void submitAnonymous(UUID surveyId, String tokenHashHex, short[] answers) {
+        short[] safe = validateAnswers(answers);
+
+        var tok = tokenService.redeemForSubmission(surveyId, tokenHashHex);
+        QuestionSet qs = questionSets.get(surveyId);
+        if (qs.size() != QUESTION_COUNT) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "error.surveys.missingQuestions");
+        }
+
+        var r = SurveyResponse.create(Survey.ref(surveyId), tok);
+        if (answerStorage.writesRows()) {
+            for (int i = 0; i < QUESTION_COUNT; i++) {
+                var a = new SurveyAnswer();
+                a.setQuestion(questionRepo.getReferenceById(qs.id(i))); // Proxy, kein SELECT
+                a.setValue(safe[i]); // Likert-Wert
+                a.setAnswerOrder(i); // 0..4
+                r.addAnswer(a);
+            }
+        }
+        if (answerStorage.writesPacked())
+            r.setPackedAnswers(safe);
+        responseRepo.save(r);
+        statsService.record(surveyId, safe);
+        events.publishEvent(new SurveyResultsChangedEvent(surveyId));
+    }
+
+    /** Anzahl + Wertebereich 1..5 prüfen; liefert eine defensive Kopie. */
+    static short[] validateAnswers(short[] answers) {
         if (answers == null || answers.length != QUESTION_COUNT) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.surveys.answerCount");
         }
@@ -101,23 +193,7 @@ public class SurveyService {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.surveys.answerRange");
             }
         }
-
-        var tok = tokenService.acquireForSubmission(surveyId, tokenHashHex);
-        var qs = questionRepo.findBySurveyIdOrderByIdx(surveyId);
-        if (qs.size() != QUESTION_COUNT) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "error.surveys.missingQuestions");
-        }
-
-        var r = SurveyResponse.create(Survey.ref(surveyId), tok);
-        for (int i = 0; i < QUESTION_COUNT; i++) {
-            var a = new SurveyAnswer();
-            a.setQuestion(qs.get(i));
-            a.setValue(safe[i]); // Likert-Wert
-            a.setAnswerOrder(i); // 0..4
-            r.addAnswer(a);
-        }
-        responseRepo.save(r);
-        tokenService.consume(tok);
+        return safe;
     }
 
     // Kompatibilitäts-Overloads
@@ -133,15 +209,180 @@ public class SurveyService {
 
     @Transactional(readOnly = true)
     public SurveyResultsDto getResults(UUID surveyId) {
-        List<SurveyResponse> all = responseRepo.findBySurveyId(surveyId);
-        double[] avg = SurveyAnalytics.averages(all);
-        int n = all.size();
+        return getResults(surveyId, true);
+    }
 
-        var items = all.stream()
-                .map(com.teamanalyzer.teamanalyzer.web.dto.SingleSurveyResultDto::from)
-                .toList();
+    /**
+     * Durchschnitte/Anzahlen kommen aus dem Read-Model {@code survey_question_stats}
+     * (O(Fragen)); fehlt es, wird per GROUP BY über question.idx aggregiert.
+     * Einzelantworten werden nur geladen, wenn {@code includeItems} gesetzt ist.
+     */
+    @Transactional(readOnly = true)
+    public SurveyResultsDto getResults(UUID surveyId, boolean includeItems) {
+        var snapshot = snapshotRepo.findById(surveyId);
+        if (snapshot.isPresent())
+            return resultsFromSnapshot(snapshot.get(), includeItems);
 
-        return com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDto.of(
-                avg[0], avg[1], avg[2], avg[3], avg[4], n, items);
+        long[] sum = new long[QUESTION_COUNT];
+        long[] cnt = new long[QUESTION_COUNT];
+        int n;
+        List<SurveyQuestionStats> stats = statsService.find(surveyId);
+        if (!stats.isEmpty()) {
+            long max = 0;
+            for (SurveyQuestionStats st : stats) {
+                int i = st.getIdx() - 1;
+                if (i >= 0 && i < QUESTION_COUNT) {
+                    sum[i] = st.getAnswerSum();
+                    cnt[i] = st.getAnswerCount();
+                    max = Math.max(max, cnt[i]);
+                }
+            }
+            n = Math.toIntExact(max); // jede Abgabe beantwortet alle Fragen
+        } else {
+            var rows = answerStorage.readsPacked()
+                    ? responseRepo.aggregatePackedBySurveyId(surveyId)
+                    : responseRepo.aggregateBySurveyId(surveyId);
+            for (QuestionAggregateView row : rows) {
+                int i = row.getIdx() - 1;
+                if (i >= 0 && i < QUESTION_COUNT) {
+                    sum[i] = row.getTotal();
+                    cnt[i] = row.getAnswers();
+                }
+            }
+            n = Math.toIntExact(responseRepo.countBySurvey_Id(surveyId));
+        }
+        double[] avg = SurveyAnalytics.averages(sum, cnt);
+
+        List<SingleSurveyResultDto> items = !includeItems ? List.of()
+                : answerStorage.readsPacked() ? packedItems(surveyId)
+                : responseRepo.findBySurveyId(surveyId).stream().map(SingleSurveyResultDto::from).toList();
+
+        return SurveyResultsDto.of(avg[0], avg[1], avg[2], avg[3], avg[4], n, items);
+    }
+
+    /**
+     * Verteilung, Median, Modus, Standardabweichung und Top-2-Box je Frage.
+     * Quelle sind die Histogramme des Stats-Read-Models; fehlt es, zählt ein
+     * GROUP BY (idx, value) in der DB.
+     */
+    @Transactional(readOnly = true)
+    public SurveyResultsDetailDto getResultsDetail(UUID surveyId) {
+        var snapshot = snapshotRepo.findById(surveyId);
+        if (snapshot.isPresent())
+            return SurveyResultsDetailDto.of(snapshot.get().getResponseCount(), snapshot.get().histogramsPerQuestion());
+
+        LikertHistogram[] h = new LikertHistogram[QUESTION_COUNT];
+        for (int i = 0; i < QUESTION_COUNT; i++)
+            h[i] = new LikertHistogram();
+
+        List<SurveyQuestionStats> stats = statsService.find(surveyId);
+        if (!stats.isEmpty()) {
+            for (SurveyQuestionStats st : stats) {
+                int i = st.getIdx() - 1;
+                if (i >= 0 && i < QUESTION_COUNT)
+                    h[i] = LikertHistogram.of(st.histogram());
+            }
+        } else {
+            var rows = answerStorage.readsPacked()
+                    ? responseRepo.countPackedByIdxAndValue(surveyId)
+                    : responseRepo.countByIdxAndValue(surveyId);
+            for (QuestionValueCountView row : rows) {
+                int i = row.getIdx() - 1;
+                short v = row.getValue();
+                if (i >= 0 && i < QUESTION_COUNT && v >= LikertHistogram.MIN && v <= LikertHistogram.MAX)
+                    h[i].add(v, Math.toIntExact(row.getAnswers()));
+            }
+        }
+
+        int n = 0;
+        for (LikertHistogram x : h) {
+            int c = 0;
+            for (int v : x.counts())
+                c += v;
+            n = Math.max(n, c); // jede Abgabe beantwortet alle Fragen
+        }
+        return SurveyResultsDetailDto.of(n, h);
+    }
+
+    /**
+     * Abgaben nach dem Keyset-Cursor (created_at, id), höchstens {@code limit},
+     * plus aktuelle Aggregate. Kosten O(neue Abgaben + Fragen). Offene Surveys
+     * nur bis {@code now - deltaSettle}, damit der Cursor nichts überspringt.
+     */
+    @Transactional(readOnly = true)
+    public SurveyResultsPageDto getResultsSince(UUID surveyId, String since, int limit) {
+        ResultsCursor cursor = ResultsCursor.decode(since);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<UUID> questionIds = List.of(questionSets.get(surveyId).ids());
+
+        List<SingleSurveyResultDto> items = new ArrayList<>();
+        ResultsCursor[] last = { cursor };
+        SurveyExportRepository.ResponseHandler collect = (responseId, createdAt, values) -> {
+            items.add(new SingleSurveyResultDto(responseId, answerMap(questionIds, values)));
+            last[0] = new ResultsCursor(createdAt, responseId);
+        };
+
+        var snapshot = snapshotRepo.findById(surveyId);
+        if (snapshot.isPresent()) {
+            // geschlossen: nur aus dem Snapshot (gleiche Reihenfolge wie der Keyset-Index)
+            try {
+                snapshot.get().forEachItem((responseId, createdAt, values) -> {
+                    if (items.size() < pageSize && (cursor == null || cursor.isBefore(createdAt, responseId)))
+                        collect.onResponse(responseId, createdAt, values);
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            exportRepo.forEachResponseAfter(surveyId,
+                    cursor != null ? cursor.createdAt() : null,
+                    cursor != null ? cursor.id() : null,
+                    clock.now().minus(deltaSettle),
+                    pageSize, QUESTION_COUNT, collect);
+        }
+
+        SurveyResultsDto agg = getResults(surveyId, false);
+        return new SurveyResultsPageDto(agg.a1(), agg.a2(), agg.a3(), agg.a4(), agg.a5(), agg.n(),
+                items, last[0] != null ? last[0].encode() : null, items.size() == pageSize);
+    }
+
+    /** Einzelantworten ohne Entities direkt aus {@code answers_packed}. */
+    private List<SingleSurveyResultDto> packedItems(UUID surveyId) {
+        List<UUID> questionIds = List.of(questionSets.get(surveyId).ids());
+        List<SingleSurveyResultDto> list = new ArrayList<>();
+        exportRepo.forEachResponse(surveyId, QUESTION_COUNT,
+                (responseId, createdAt, values) -> list.add(new SingleSurveyResultDto(responseId,
+                        answerMap(questionIds, values))));
+        return list;
+    }
+
+    private SurveyResultsDto resultsFromSnapshot(SurveyResultSnapshot snap, boolean includeItems) {
+        LikertHistogram[] h = snap.histogramsPerQuestion();
+        double[] avg = new double[QUESTION_COUNT];
+        for (int i = 0; i < QUESTION_COUNT && i < h.length; i++)
+            avg[i] = h[i].summarize().mean();
+
+        List<SingleSurveyResultDto> items = List.of();
+        if (includeItems) {
+            List<UUID> questionIds = List.of(questionSets.get(snap.getSurveyId()).ids());
+            List<SingleSurveyResultDto> list = new ArrayList<>(snap.getResponseCount());
+            try {
+                snap.forEachItem((responseId, createdAt, values) -> list
+                        .add(new SingleSurveyResultDto(responseId, answerMap(questionIds, values))));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            items = list;
+        }
+        return SurveyResultsDto.of(avg[0], avg[1], avg[2], avg[3], avg[4], snap.getResponseCount(), items);
+    }
+
+    private static Map<UUID, Short> answerMap(List<UUID> questionIds, short[] values) {
+        Map<UUID, Short> answers = new LinkedHashMap<>();
+        for (int i = 0; i < values.length && i < questionIds.size(); i++) {
+            if (values[i] != 0)
+                answers.put(questionIds.get(i), values[i]);
+        }
+        return answers;
     }
 }
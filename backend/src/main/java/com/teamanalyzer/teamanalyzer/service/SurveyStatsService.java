@@ -0,0 +1,121 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamanalyzer.teamanalyzer.domain.AnswerStorage;
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestionStats;
+import com.teamanalyzer.teamanalyzer.repo.SurveyQuestionStatsRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pflegt das Read-Model {@code survey_question_stats}. Alle Schreibzugriffe
+ * laufen in der Tx des Aufrufers (Abgabe, Survey-Anlage). Einrechnen hält
+ * die Survey-Zeile geteilt, der Rebuild exklusiv – beide schließen sich so
+ * gegenseitig aus. Die Sperrreihenfolge (Token → Survey → Stats) steht an
+ * {@link SurveyQuestionStatsRepository#lockSurveyShared(UUID)}.
+ */
+@Service
+@RequiredArgsConstructor
+public class SurveyStatsService {
+
+    private final SurveyQuestionStatsRepository statsRepo;
+    private final SurveyRepository surveyRepo;
+    private final ApplicationEventPublisher events;
+
+    @Value("${app.responses.storage:dual}")
+    private AnswerStorage answerStorage = AnswerStorage.DUAL;
+
+    /** Nullzeilen für ein neues Survey anlegen. */
+    @Transactional
+    public void initialize(UUID surveyId, int questionCount) {
+        var rows = new ArrayList<SurveyQuestionStats>(questionCount);
+        for (int i = 1; i <= questionCount; i++) {
+            rows.add(SurveyQuestionStats.empty(surveyId, (short) i));
+        }
+        statsRepo.saveAll(rows);
+    }
+
+    /** Eine Abgabe einrechnen; {@code answers[i]} gehört zu Frage idx = i + 1. */
+    @Transactional
+    public void record(UUID surveyId, short[] answers) {
+        statsRepo.lockSurveyShared(surveyId);
+        for (int i = 0; i < answers.length; i++) {
+            short v = answers[i];
+            short idx = (short) (i + 1);
+            int updated = statsRepo.increment(surveyId, idx, 1, v,
+                    v == 1 ? 1 : 0, v == 2 ? 1 : 0, v == 3 ? 1 : 0, v == 4 ? 1 : 0, v == 5 ? 1 : 0);
+            if (updated == 0) {
+                // Survey ohne Stats-Zeile (z. B. vor Initialisierung angelegt)
+                var s = SurveyQuestionStats.empty(surveyId, idx);
+                s.add(v);
+                statsRepo.save(s);
+            }
+        }
+    }
+
+    /**
+     * Mehrere Abgaben gebündelt einrechnen (ein UPDATE je Frage statt je
+     * Abgabe); {@code histograms[i][v - 1]} = Anzahl Antworten v auf Frage
+     * idx = i + 1.
+     */
+    @Transactional
+    public void recordAll(UUID surveyId, long[][] histograms) {
+        statsRepo.lockSurveyShared(surveyId);
+        for (int i = 0; i < histograms.length; i++) {
+            long[] h = histograms[i];
+            long count = 0;
+            long sum = 0;
+            for (int v = 1; v <= h.length; v++) {
+                count += h[v - 1];
+                sum += h[v - 1] * v;
+            }
+            if (count == 0)
+                continue;
+            short idx = (short) (i + 1);
+            int updated = statsRepo.increment(surveyId, idx, count, sum, h[0], h[1], h[2], h[3], h[4]);
+            if (updated == 0) {
+                var s = SurveyQuestionStats.empty(surveyId, idx);
+                s.add(h);
+                statsRepo.save(s);
+            }
+        }
+    }
+
+    /** Stats eines Surveys, sortiert nach idx; leer, wenn (noch) keine existieren. */
+    @Transactional(readOnly = true)
+    public List<SurveyQuestionStats> find(UUID surveyId) {
+        return statsRepo.findBySurveyId(surveyId);
+    }
+
+    /** Neuberechnung aus den Rohantworten. */
+    @Transactional
+    public int rebuild(UUID surveyId) {
+        int rows = recompute(surveyId);
+        events.publishEvent(new SurveyResultsChangedEvent(surveyId));
+        return rows;
+    }
+
+    /** Neuberechnung für alle Surveys (eine Tx je Survey). */
+    public int rebuildAll() {
+        int surveys = 0;
+        for (UUID id : surveyRepo.findAllIds()) {
+            recompute(id);
+            events.publishEvent(new SurveyResultsChangedEvent(id));
+            surveys++;
+        }
+        return surveys;
+    }
+
+    private int recompute(UUID surveyId) {
+        return answerStorage.readsPacked() ? statsRepo.rebuildFromPacked(surveyId) : statsRepo.rebuild(surveyId);
+    }
+}
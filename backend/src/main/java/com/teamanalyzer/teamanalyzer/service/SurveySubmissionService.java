@@ -0,0 +1,298 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.teamanalyzer.teamanalyzer.domain.QuestionSet;
+import com.teamanalyzer.teamanalyzer.domain.TimeOrderedUuid;
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.port.DigestService;
+import com.teamanalyzer.teamanalyzer.repo.SubmissionBatchRepository;
+import com.teamanalyzer.teamanalyzer.repo.SubmissionBatchRepository.NewResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Einstieg für Abgaben. {@code app.submissions.mode}:
+ * <ul>
+ * <li>{@code sync} (Default): eine Tx je Abgabe, 202 erst nach Commit.</li>
+ * <li>{@code batched}: Validierung und Token-Vorprüfung synchron (400/404/410
+ * wie gehabt), danach landet die Abgabe in einer begrenzten In-Memory-Queue.
+ * Ein Writer-Thread schreibt sie gebündelt: Token-CAS als JDBC-Batch,
+ * mehrzeilige INSERTs, ein Stats-Update je Survey und Frage, ein Commit je
+ * Bündel.</li>
+ * </ul>
+ * In beiden Modi weist {@link SurveyTokenFilter} (falls aktiviert) sicher
+ * unbekannte Tokens vorab ohne DB-Zugriff mit 404 ab.
+ *
+ * <p>
+ * Semantik im {@code batched}-Modus: 202 heißt „angenommen“, nicht
+ * „gespeichert“ (höchstens einmal). Verloren gehen können Abgaben bei
+ * Absturz vor dem Commit sowie solche, deren Token zwischen Vorprüfung und
+ * CAS anderweitig eingelöst oder widerrufen wurde. Beim regulären
+ * Herunterfahren wird die Queue bis {@code drain-timeout} abgearbeitet. Ist
+ * die Queue voll, wird sofort mit 503 abgelehnt (Back-Pressure).
+ */
+@Service
+public class SurveySubmissionService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SurveySubmissionService.class);
+
+    private final SurveyService surveyService;
+    private final TokenService tokenService;
+    private final QuestionSetCache questionSets;
+    private final SubmissionBatchRepository batchRepo;
+    private final SurveyStatsService statsService;
+    private final ApplicationEventPublisher events;
+    private final DigestService digest;
+    private final SurveyTokenFilter tokenFilter;
+    private final AppClock clock;
+    private final TransactionTemplate tx;
+
+    private final boolean batched;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration drainTimeout;
+    private final BlockingQueue<PendingSubmission> queue;
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter written;
+    private final Counter dropped;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    /** Angenommene, noch nicht geschriebene Abgabe. */
+    record PendingSubmission(UUID surveyId, UUID tokenId, short[] answers) {
+    }
+
+    public SurveySubmissionService(SurveyService surveyService, TokenService tokenService,
+            QuestionSetCache questionSets, SubmissionBatchRepository batchRepo,
+            SurveyStatsService statsService, ApplicationEventPublisher events, DigestService digest,
+            SurveyTokenFilter tokenFilter, AppClock clock, PlatformTransactionManager txManager, MeterRegistry registry,
+            @Value("${app.submissions.mode:sync}") String mode,
+            @Value("${app.submissions.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.submissions.batch-size:200}") int batchSize,
+            @Value("${app.submissions.linger:5ms}") Duration linger,
+            @Value("${app.submissions.drain-timeout:10s}") Duration drainTimeout) {
+        this.surveyService = surveyService;
+        this.tokenService = tokenService;
+        this.questionSets = questionSets;
+        this.batchRepo = batchRepo;
+        this.statsService = statsService;
+        this.events = events;
+        this.digest = digest;
+        this.tokenFilter = tokenFilter;
+        this.clock = clock;
+        this.tx = new TransactionTemplate(txManager);
+        this.batched = "batched".equalsIgnoreCase(mode.trim());
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.drainTimeout = drainTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.accepted = counter(registry, "accepted");
+        this.rejected = counter(registry, "rejected");
+        this.written = counter(registry, "written");
+        this.dropped = counter(registry, "dropped");
+        this.batchSizes = DistributionSummary.builder("submissions.batch.size").register(registry);
+        Gauge.builder("submissions.queue.size", queue, BlockingQueue::size).register(registry);
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("submissions")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!batched)
+            return;
+        running = true;
+        writer = new Thread(this::runWriter, "survey-submissions");
+        writer.start();
+    }
+
+    public void submit(UUID surveyId, String plainToken, short[] answers) {
+        if (!batched) {
+            if (tokenFilter.isEnabled())
+                surveyService.submitAnonymous(surveyId, screenToken(surveyId, plainToken), answers);
+            else
+                surveyService.submitAnonymousByPlainToken(surveyId, plainToken, answers);
+            return;
+        }
+        short[] safe = SurveyService.validateAnswers(answers);
+        UUID tokenId = tokenService.findRedeemableTokenId(surveyId, screenToken(surveyId, plainToken));
+        if ((writer != null && !running) || !queue.offer(new PendingSubmission(surveyId, tokenId, safe))) {
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "error.submissions.overloaded");
+        }
+        accepted.increment();
+    }
+
+    /** Hash des Tokens; sicher unbekannte Tokens → 404 vor jeder Tx. */
+    private byte[] screenToken(UUID surveyId, String plainToken) {
+        if (plainToken == null || plainToken.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Missing token");
+        }
+        byte[] hash = digest.sha256(plainToken);
+        if (tokenFilter.rejects(surveyId, hash)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Invalid token");
+        }
+        return hash;
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    /** Schreibt alles Anstehende im aufrufenden Thread (Tests, Shutdown). */
+    int flush() {
+        int n = 0;
+        List<PendingSubmission> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            n += write(batch);
+            batch.clear();
+        }
+        return n;
+    }
+
+    private void runWriter() {
+        List<PendingSubmission> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingSubmission first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+                batch.add(first);
+                // kurz nachsammeln: unter Last füllt sich das Bündel, sonst kaum Latenz
+                long deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long left = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || left <= 0)
+                        break;
+                    PendingSubmission next = queue.poll(left, TimeUnit.NANOSECONDS);
+                    if (next == null)
+                        break;
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                if (!batch.isEmpty())
+                    write(batch);
+            } catch (RuntimeException e) {
+                LOG.error("Submission writer failed on batch of {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+        flush();
+    }
+
+    /** Ein Bündel in einer Tx; schlägt es fehl, einzeln nachschreiben. */
+    private int write(List<PendingSubmission> batch) {
+        try {
+            Outcome o = tx.execute(status -> writeInTx(batch));
+            batchSizes.record(batch.size());
+            written.increment(o.written());
+            dropped.increment(o.dropped());
+            return o.written();
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                dropped.increment();
+                LOG.warn("Dropping submission for survey {}: {}", batch.get(0).surveyId(), ex.toString());
+                return 0;
+            }
+            LOG.warn("Batch of {} submissions failed, retrying one by one: {}", batch.size(), ex.toString());
+            int n = 0;
+            for (PendingSubmission p : batch) {
+                n += write(List.of(p));
+            }
+            return n;
+        }
+    }
+
+    private record Outcome(int written, int dropped) {
+    }
+
+    private Outcome writeInTx(List<PendingSubmission> batch) {
+        // dasselbe Token mehrfach im Bündel → nur die erste Abgabe zählt
+        Map<UUID, PendingSubmission> byToken = new LinkedHashMap<>();
+        for (PendingSubmission p : batch) {
+            byToken.putIfAbsent(p.tokenId(), p);
+        }
+        List<UUID> tokenIds = new ArrayList<>(byToken.keySet());
+        int[] redeemed = batchRepo.redeemTokens(tokenIds, clock.now());
+
+        int q = SurveyService.QUESTION_COUNT;
+        Map<UUID, UUID[]> questionIds = new HashMap<>();
+        Map<UUID, long[][]> histograms = new LinkedHashMap<>();
+        List<NewResponse> rows = new ArrayList<>(tokenIds.size());
+        for (int i = 0; i < tokenIds.size(); i++) {
+            if (redeemed[i] != 1)
+                continue; // CAS verloren: bereits eingelöst oder widerrufen
+            PendingSubmission p = byToken.get(tokenIds.get(i));
+            UUID[] qids = questionIds.computeIfAbsent(p.surveyId(), this::loadQuestionIds);
+            rows.add(new NewResponse(TimeOrderedUuid.next(), p.surveyId(), p.tokenId(), qids, p.answers()));
+            long[][] h = histograms.computeIfAbsent(p.surveyId(), id -> new long[q][5]);
+            for (int j = 0; j < q; j++) {
+                h[j][p.answers()[j] - 1]++;
+            }
+        }
+
+        batchRepo.insertResponses(rows);
+        histograms.forEach((surveyId, h) -> {
+            statsService.recordAll(surveyId, h);
+            events.publishEvent(new SurveyResultsChangedEvent(surveyId));
+        });
+        return new Outcome(rows.size(), batch.size() - rows.size());
+    }
+
+    private UUID[] loadQuestionIds(UUID surveyId) {
+        QuestionSet qs = questionSets.get(surveyId);
+        if (qs.size() != SurveyService.QUESTION_COUNT)
+            throw new IllegalStateException("Survey " + surveyId + " has " + qs.size() + " questions");
+        return qs.ids();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (writer == null)
+            return;
+        running = false; // neue Abgaben → 503, Writer leert die Queue und endet
+        writer.join(drainTimeout.toMillis());
+        if (writer.isAlive()) {
+            writer.interrupt();
+            LOG.warn("Submission writer did not drain within {}; {} submissions lost", drainTimeout, queue.size());
+        }
+    }
+}
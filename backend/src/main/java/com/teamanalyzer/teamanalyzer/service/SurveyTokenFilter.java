@@ -0,0 +1,148 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamanalyzer.teamanalyzer.domain.SurveyStatus;
+import com.teamanalyzer.teamanalyzer.domain.TokenBloomFilter;
+import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Negativ-Filter für den öffentlichen Submit: je Survey ein
+ * {@link TokenBloomFilter} über alle ausgestellten Token-Hashes (auch
+ * eingelöste/widerrufene – die sollen weiterhin 410 liefern). Unbekannte
+ * Tokens werden ohne DB-Zugriff und ohne Tx mit 404 abgewiesen.
+ *
+ * <p>
+ * Aufbau beim Start für alle offenen Surveys, sonst beim ersten Zugriff.
+ * Reihenfolge „erst Filter eintragen, dann laden“ plus Übernahme neuer
+ * Hashes erst nach dem Commit ({@link SurveyTokensIssuedEvent}) schließt
+ * falsche „unbekannt“-Antworten aus. Solange ein Filter lädt oder fehlt,
+ * wird nichts abgewiesen (fail open). Ist ein Filter über seiner Kapazität,
+ * wird er verworfen und beim nächsten Zugriff größer neu aufgebaut.
+ * Standardmäßig aus ({@code app.token-filter.enabled}).
+ */
+@Component
+public class SurveyTokenFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SurveyTokenFilter.class);
+
+    private final SurveyTokenRepository tokenRepo;
+    private final SurveyRepository surveyRepo;
+    private final boolean enabled;
+    private final double fpp;
+    private final int minCapacity;
+    private final Cache<UUID, Entry> filters;
+    private final Counter rejected;
+    private final Counter passed;
+
+    private static final class Entry {
+        final TokenBloomFilter bloom;
+        final AtomicBoolean loading = new AtomicBoolean();
+        volatile boolean ready;
+
+        Entry(TokenBloomFilter bloom) {
+            this.bloom = bloom;
+        }
+    }
+
+    public SurveyTokenFilter(SurveyTokenRepository tokenRepo, SurveyRepository surveyRepo, MeterRegistry registry,
+            @Value("${app.token-filter.enabled:false}") boolean enabled,
+            @Value("${app.token-filter.fpp:0.01}") double fpp,
+            @Value("${app.token-filter.min-capacity:1024}") int minCapacity,
+            @Value("${app.token-filter.maximum-surveys:10000}") long maximumSurveys) {
+        this.tokenRepo = tokenRepo;
+        this.surveyRepo = surveyRepo;
+        this.enabled = enabled;
+        this.fpp = fpp;
+        this.minCapacity = minCapacity;
+        this.filters = Caffeine.newBuilder()
+                .maximumSize(maximumSurveys)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, filters, "survey.token.filters");
+        this.rejected = Counter.builder("survey.token.filter").tag("result", "rejected").register(registry);
+        this.passed = Counter.builder("survey.token.filter").tag("result", "passed").register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return {@code true}, wenn der Hash für das Survey sicher nie
+     *         ausgestellt wurde; {@code false} bei „vielleicht“, deaktiviertem
+     *         oder noch nicht geladenem Filter
+     */
+    public boolean rejects(UUID surveyId, byte[] tokenHash) {
+        if (!enabled)
+            return false;
+        Entry e = entry(surveyId);
+        if (e == null || !e.ready)
+            return false;
+        if (e.bloom.mightContain(tokenHash)) {
+            passed.increment();
+            return false;
+        }
+        rejected.increment();
+        return true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTokensIssued(SurveyTokensIssuedEvent ev) {
+        if (!enabled)
+            return;
+        Entry e = filters.getIfPresent(ev.surveyId());
+        if (e == null)
+            return; // wird beim nächsten Zugriff inkl. dieser Tokens geladen
+        ev.tokenHashes().forEach(e.bloom::add);
+        if (e.bloom.isSaturated())
+            filters.invalidate(ev.surveyId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled)
+            return;
+        var open = surveyRepo.findIdsByStatus(SurveyStatus.OPEN);
+        open.forEach(this::entry);
+        LOG.info("Token-Filter für {} offene Surveys aufgebaut", open.size());
+    }
+
+    private Entry entry(UUID surveyId) {
+        Entry e = filters.get(surveyId, id -> new Entry(
+                new TokenBloomFilter(capacityFor(tokenRepo.countBySurvey_Id(id)), fpp)));
+        if (e.loading.compareAndSet(false, true)) {
+            try {
+                tokenRepo.findHashesBySurveyId(surveyId).forEach(e.bloom::add);
+                e.ready = true;
+            } catch (RuntimeException ex) {
+                filters.invalidate(surveyId);
+                LOG.warn("Token-Filter für Survey {} nicht geladen: {}", surveyId, ex.toString());
+                return null;
+            }
+        }
+        return e;
+    }
+
+    /** Platz für das Doppelte des aktuellen Bestands (Nachausstellungen). */
+    private int capacityFor(long issued) {
+        return (int) Math.min(Integer.MAX_VALUE / 2, Math.max(minCapacity, issued * 2));
+    }
+}
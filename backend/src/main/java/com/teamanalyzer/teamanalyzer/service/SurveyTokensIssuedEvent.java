@@ -0,0 +1,12 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Neue Tokens (SHA-256-Hashes) für ein Survey ausgestellt. Wird innerhalb
+ * der Tx publiziert; {@link SurveyTokenFilter} übernimmt sie erst nach dem
+ * Commit.
+ */
+public record SurveyTokensIssuedEvent(UUID surveyId, List<byte[]> tokenHashes) {
+}
@@ -0,0 +1,135 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamanalyzer.teamanalyzer.repo.MembershipView;
+import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
+import com.teamanalyzer.teamanalyzer.repo.TeamMemberRepository;
+import com.teamanalyzer.teamanalyzer.security.AuthUser;
+import com.teamanalyzer.teamanalyzer.security.TeamClaims;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Berechtigungsprüfungen der Survey-Endpunkte ohne DB-Zugriff im
+ * Normalfall: je User die Team-IDs und Leader-Teams (eine Abfrage), je
+ * Survey die Team-ID (unveränderlich). Mitgliedschaften werden nach dem
+ * Commit von {@link TeamMembershipChangedEvent} gezielt verworfen; die TTL
+ * begrenzt Veraltung durch Änderungen an anderen Knoten oder direkt in der
+ * DB. Trägt das Access-Token Team-Claims ({@link AuthUser#teams()}),
+ * entscheiden die Varianten mit {@link AuthUser} ohne Cache-Zugriff.
+ */
+@Component
+public class TeamAccessCache {
+
+    /** Teams eines Users; {@code leaderOf} ⊆ {@code teams}. */
+    record Memberships(Set<UUID> teams, Set<UUID> leaderOf) {
+    }
+
+    private final Cache<UUID, Memberships> byUser;
+    private final Cache<UUID, UUID> surveyTeams;
+    private final TeamMemberRepository tmRepo;
+    private final SurveyRepository surveyRepo;
+
+    public TeamAccessCache(
+            TeamMemberRepository tmRepo,
+            SurveyRepository surveyRepo,
+            MeterRegistry registry,
+            @Value("${app.access-cache.maximum-size:100000}") long maximumSize,
+            @Value("${app.access-cache.ttl:5m}") Duration ttl) {
+        this.tmRepo = tmRepo;
+        this.surveyRepo = surveyRepo;
+        this.byUser = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.surveyTeams = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, byUser, "access.memberships");
+        CaffeineCacheMetrics.monitor(registry, surveyTeams, "access.survey-teams");
+    }
+
+    public boolean isMember(AuthUser user, UUID teamId) {
+        TeamClaims claims = user.teams();
+        return claims != null ? claims.isMember(teamId) : isMember(user.userId(), teamId);
+    }
+
+    public boolean isLeader(AuthUser user, UUID teamId) {
+        TeamClaims claims = user.teams();
+        return claims != null ? claims.isLeader(teamId) : isLeader(user.userId(), teamId);
+    }
+
+    public boolean isLeaderAnywhere(AuthUser user) {
+        TeamClaims claims = user.teams();
+        return claims != null ? claims.isLeaderAnywhere() : isLeaderAnywhere(user.userId());
+    }
+
+    public boolean isLeaderOfSurvey(AuthUser user, UUID surveyId) {
+        return teamOfSurvey(surveyId).map(teamId -> isLeader(user, teamId)).orElse(false);
+    }
+
+    public boolean isMember(UUID userId, UUID teamId) {
+        return memberships(userId).teams().contains(teamId);
+    }
+
+    public boolean isLeader(UUID userId, UUID teamId) {
+        return memberships(userId).leaderOf().contains(teamId);
+    }
+
+    public boolean isLeaderAnywhere(UUID userId) {
+        return !memberships(userId).leaderOf().isEmpty();
+    }
+
+    /** Leader im Team des Surveys; {@code false} bei unbekanntem Survey. */
+    public boolean isLeaderOfSurvey(UUID userId, UUID surveyId) {
+        return teamOfSurvey(surveyId).map(teamId -> isLeader(userId, teamId)).orElse(false);
+    }
+
+    /** Team-ID des Surveys; unbekannte Surveys werden nicht gecacht. */
+    public Optional<UUID> teamOfSurvey(UUID surveyId) {
+        return Optional.ofNullable(surveyTeams.get(surveyId, id -> surveyRepo.findTeamIdById(id).orElse(null)));
+    }
+
+    /**
+     * Nach dem Commit betroffene User verwerfen. {@code invalidate} wartet
+     * auf ein laufendes Laden desselben Users, ein vor dem Commit gelesener
+     * Stand bleibt also nicht stehen.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(TeamMembershipChangedEvent event) {
+        byUser.invalidateAll(event.userIds());
+        if (event.teamDeleted())
+            surveyTeams.asMap().values().removeIf(event.teamId()::equals);
+    }
+
+    private Memberships memberships(UUID userId) {
+        return byUser.get(userId, this::load);
+    }
+
+    private Memberships load(UUID userId) {
+        Set<UUID> teams = new HashSet<>();
+        Set<UUID> leaderOf = new HashSet<>();
+        for (MembershipView m : tmRepo.findMembershipsByUserId(userId)) {
+            teams.add(m.getTeamId());
+            if (m.isLeader())
+                leaderOf.add(m.getTeamId());
+        }
+        return new Memberships(Set.copyOf(teams), Set.copyOf(leaderOf));
+    }
+}
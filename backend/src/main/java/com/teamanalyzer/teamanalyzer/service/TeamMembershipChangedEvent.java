@@ -0,0 +1,18 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Mitgliedschaften der genannten User in {@code teamId} haben sich geändert
+ * (hinzugefügt, entfernt, Leader umgesetzt; {@code teamDeleted} bei
+ * Löschung des Teams). Wird innerhalb der Tx publiziert; Listener reagieren
+ * erst nach dem Commit.
+ */
+public record TeamMembershipChangedEvent(UUID teamId, Collection<UUID> userIds, boolean teamDeleted) {
+
+    public static TeamMembershipChangedEvent of(UUID teamId, UUID userId) {
+        return new TeamMembershipChangedEvent(teamId, List.of(userId), false);
+    }
+}
@@ -2,6 +2,7 @@ package com.teamanalyzer.teamanalyzer.service;
 
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -24,6 +25,7 @@ public class TeamService {
     private final TeamRepository teamRepo;
     private final TeamMemberRepository tmRepo;
     private final UserRepository userRepo;
+    private final ApplicationEventPublisher events;
 
     @Transactional
     public Team createTeam(String name, UUID leaderUserId) {
@@ -41,6 +43,7 @@ public class TeamService {
 
         TeamMember tm = TeamMember.of(team, user, leader);
         tmRepo.save(tm);
+        events.publishEvent(TeamMembershipChangedEvent.of(teamId, userId));
     }
 
     @Transactional
@@ -59,6 +62,7 @@ public class TeamService {
 
         tm.setLeader(leader);
         tmRepo.save(tm);
+        events.publishEvent(TeamMembershipChangedEvent.of(teamId, userId));
     }
 
     @Transactional
@@ -77,6 +81,7 @@ public class TeamService {
         }
 
         tmRepo.deleteById(id);
+        events.publishEvent(TeamMembershipChangedEvent.of(teamId, userId));
     }
 
     @SuppressWarnings("unused")
@@ -0,0 +1,140 @@
+package com.teamanalyzer.teamanalyzer.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.repo.TokenPurgeRepository;
+import com.teamanalyzer.teamanalyzer.repo.TokenPurgeRepository.Cursor;
+import com.teamanalyzer.teamanalyzer.repo.TokenPurgeRepository.Page;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Löscht nicht mehr benötigte Tokens in kleinen Keyset-Seiten:
+ * <ul>
+ * <li>Refresh-Tokens, deren {@code expires_at} länger als
+ * {@code refresh-retention} zurückliegt (widerrufen oder nicht)</li>
+ * <li>Survey-Tokens, die vor mehr als {@code survey-token-retention}
+ * eingelöst oder widerrufen wurden</li>
+ * </ul>
+ * Jede Seite ist ein eigenes DELETE (Autocommit, Locks nur für
+ * {@code chunk-size} Zeilen); zwischen den Seiten wird {@code throttle}
+ * pausiert, damit Login/Refresh/Abgabe nicht warten.
+ */
+@Service
+public class TokenPurgeService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenPurgeService.class);
+
+    private final TokenPurgeRepository purgeRepo;
+    private final AppClock clock;
+
+    private final boolean enabled;
+    private final Duration refreshRetention;
+    private final Duration surveyTokenRetention;
+    private final int chunkSize;
+    private final Duration throttle;
+
+    private final Counter refreshPurged;
+    private final Counter surveyTokensPurged;
+
+    public TokenPurgeService(TokenPurgeRepository purgeRepo, AppClock clock, MeterRegistry registry,
+            @Value("${app.purge.enabled:true}") boolean enabled,
+            @Value("${app.purge.refresh-retention:7d}") Duration refreshRetention,
+            @Value("${app.purge.survey-token-retention:30d}") Duration surveyTokenRetention,
+            @Value("${app.purge.chunk-size:500}") int chunkSize,
+            @Value("${app.purge.throttle:200ms}") Duration throttle) {
+        this.purgeRepo = purgeRepo;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.refreshRetention = refreshRetention;
+        this.surveyTokenRetention = surveyTokenRetention;
+        this.chunkSize = chunkSize;
+        this.throttle = throttle;
+
+        this.refreshPurged = counter(registry, "refresh_tokens");
+        this.surveyTokensPurged = counter(registry, "survey_tokens");
+    }
+
+    private static Counter counter(MeterRegistry registry, String table) {
+        return Counter.builder("tokens.purged")
+                .tag("table", table)
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${app.purge.cron:0 17 * * * *}")
+    public void scheduledPurge() {
+        if (!enabled)
+            return;
+        try {
+            purge();
+        } catch (RuntimeException ex) {
+            LOG.warn("Token-Purge abgebrochen: {}", ex.toString());
+        }
+    }
+
+    /** @return Anzahl gelöschter Zeilen über alle Tabellen */
+    public int purge() {
+        Instant now = clock.now();
+        Instant refreshCutoff = now.minus(refreshRetention);
+        Instant surveyCutoff = now.minus(surveyTokenRetention);
+
+        int refresh = 0;
+        for (boolean revoked : new boolean[] { true, false }) {
+            refresh += drain(Cursor.START,
+                    after -> purgeRepo.refreshTokensExpiredBefore(revoked, refreshCutoff, after, chunkSize),
+                    purgeRepo::deleteRefreshTokens, refreshPurged);
+        }
+        int survey = drain((byte[]) null,
+                after -> purgeRepo.redeemedSurveyTokensBefore(surveyCutoff, after, chunkSize),
+                purgeRepo::deleteSurveyTokens, surveyTokensPurged);
+        survey += drain((byte[]) null,
+                after -> purgeRepo.revokedSurveyTokensBefore(surveyCutoff, after, chunkSize),
+                purgeRepo::deleteSurveyTokens, surveyTokensPurged);
+
+        if (refresh + survey > 0)
+            LOG.info("Token-Purge: refresh_tokens={} survey_tokens={}", refresh, survey);
+        return refresh + survey;
+    }
+
+    private <K> int drain(K start, Function<K, Page<K>> nextPage,
+            ToIntFunction<List<UUID>> delete, Counter counter) {
+        int total = 0;
+        K cursor = start;
+        while (true) {
+            Page<K> page = nextPage.apply(cursor);
+            if (page.ids().isEmpty())
+                return total;
+            int deleted = delete.applyAsInt(page.ids());
+            counter.increment(deleted);
+            total += deleted;
+            if (page.ids().size() < chunkSize)
+                return total;
+            cursor = page.next();
+            pause();
+        }
+    }
+
+    private void pause() {
+        if (throttle.isZero())
+            return;
+        try {
+            Thread.sleep(throttle);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Token-Purge unterbrochen", ex);
+        }
+    }
+}
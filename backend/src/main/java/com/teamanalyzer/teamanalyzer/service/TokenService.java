@@ -1,10 +1,15 @@
 package com.teamanalyzer.teamanalyzer.service;
 
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,13 +17,18 @@ import org.springframework.web.server.ResponseStatusException;
 
 import com.teamanalyzer.teamanalyzer.domain.Survey;
 import com.teamanalyzer.teamanalyzer.domain.SurveyResponse;
+import com.teamanalyzer.teamanalyzer.domain.SurveyStatus;
 import com.teamanalyzer.teamanalyzer.domain.SurveyToken;
 import com.teamanalyzer.teamanalyzer.domain.User;
 import com.teamanalyzer.teamanalyzer.port.AppClock;
 import com.teamanalyzer.teamanalyzer.port.DigestService;
+import com.teamanalyzer.teamanalyzer.port.EmailSender.Mail;
+import com.teamanalyzer.teamanalyzer.repo.MemberContactView;
 import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
 import com.teamanalyzer.teamanalyzer.repo.SurveyTokenRepository;
 import com.teamanalyzer.teamanalyzer.repo.TeamMemberRepository;
+import com.teamanalyzer.teamanalyzer.repo.TokenBatchRepository;
+import com.teamanalyzer.teamanalyzer.repo.TokenBatchRepository.NewToken;
 
 import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityManager;
@@ -31,43 +41,83 @@ public class TokenService {
 
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(TokenService.class);
 
+    /** Ab dieser Mitgliederzahl werden Tokens parallel erzeugt/gehasht. */
+    static final int PARALLEL_HASH_THRESHOLD = 256;
+
     private final SurveyTokenRepository tokenRepo;
     private final SurveyRepository surveyRepo;
     private final TeamMemberRepository tmRepo;
+    private final TokenBatchRepository tokenBatchRepo;
+    private final MailOutboxService mailOutbox;
+    private final ApplicationEventPublisher events;
     private final AppClock clock;
+    private final DigestService digest; // <— Port nutzen
+
+    @Value("${app.frontend-base-url:http://localhost:5173}")
+    private String frontendBaseUrl;
 
     @PersistenceContext
     private EntityManager em;
-    private final DigestService digest; // <— Port nutzen
 
+    /**
+     * Löst das Token per Compare-and-Set ein: ein bedingtes UPDATE über
+     * (Hash, Survey), ohne vorherigen Read. Der Zeilenlock hält nur bis zum
+     * Commit der Abgabe. Danach liefert der Hash-Lookup die ID für die
+     * Abgabe bzw. unterscheidet bei 0 Zeilen 404 (unbekannt) von 410
+     * (eingelöst/widerrufen).
+     *
+     * @return Referenz (Proxy, ohne SELECT) auf das eingelöste Token
+     */
     @Transactional
-    public SurveyToken acquireForSubmission(UUID surveyId, String tokenHashHex) {
+    public SurveyToken redeemForSubmission(UUID surveyId, String tokenHashHex) {
         final byte[] hash;
         try {
             hash = HexFormat.of().parseHex(tokenHashHex);
         } catch (IllegalArgumentException ex) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid token");
         }
+        return tokenRepo.getReferenceById(redeemOrThrow(surveyId, hash));
+    }
 
-        SurveyToken tok = tokenRepo
-                .findWithLockByTokenHashAndSurvey_Id(hash, surveyId)
+    private UUID redeemOrThrow(UUID surveyId, byte[] hash) {
+        int redeemed = tokenRepo.redeemIfActive(hash, surveyId, clock.now());
+        UUID id = tokenRepo.findIdByTokenHashAndSurvey_Id(hash, surveyId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Invalid token"));
+        if (redeemed == 0)
+            throw new ResponseStatusException(HttpStatus.GONE, "Token already used");
+        return id;
+    }
 
+    /**
+     * Vorprüfung ohne Lock (gebündelte Abgabe): liefert die Token-ID, sofern
+     * das Token aktuell einlösbar ist. Verbindlich ist erst der CAS beim
+     * Schreiben.
+     */
+    @Transactional(readOnly = true)
+    public UUID findRedeemableTokenId(UUID surveyId, byte[] tokenHash) {
+        SurveyToken tok = tokenRepo.findByTokenHashAndSurvey_Id(tokenHash, surveyId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Invalid token"));
         if (tok.isRevoked() || tok.isRedeemed()) {
             throw new ResponseStatusException(HttpStatus.GONE, "Token already used");
         }
-        return tok; // locked until tx ends
+        return tok.getId();
     }
 
     @Transactional
-    public void consume(SurveyToken tok) {
-        tok.setRedeemed(true);
-        tok.setRedeemedAt(clock.now());
-        tokenRepo.save(tok);
+    public String ensurePersonalToken(Survey survey, UUID userId, @Nullable String email) {
+        requireOpen(survey.getId());
+        return issueIfAbsent(survey, userId, email);
     }
 
-    @Transactional
-    public String ensurePersonalToken(Survey survey, UUID userId, @Nullable String email) {
+    /** Geschlossene Surveys bekommen keine neuen Tokens mehr. */
+    private void requireOpen(UUID surveyId) {
+        SurveyStatus status = surveyRepo.findStatusById(surveyId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+        if (status == SurveyStatus.CLOSED)
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "error.surveys.closed");
+    }
+
+    private String issueIfAbsent(Survey survey, UUID userId, @Nullable String email) {
         var existing = tokenRepo.findFirstBySurvey_IdAndIssuedToUser_IdAndRedeemedFalseAndRevokedFalse(
                 survey.getId(), userId);
         if (existing.isPresent())
@@ -84,6 +134,7 @@ public class TokenService {
         tok.setIssuedToEmail(email);
         tok.setIssuedToUser(em.getReference(User.class, userId));
         tokenRepo.save(tok);
+        events.publishEvent(new SurveyTokensIssuedEvent(survey.getId(), List.of(hash)));
         return plain;
     }
 
@@ -95,6 +146,7 @@ public class TokenService {
 
     @Transactional
     public String renewPersonalToken(Survey survey, UUID userId, @Nullable String email) {
+        requireOpen(survey.getId());
         revokeOpenTokensForUser(survey.getId(), userId);
         var plain = ensurePersonalToken(survey, userId, email);
         if (plain == null) {
@@ -116,37 +168,67 @@ public class TokenService {
         return tokenRepo.findFirstBySurvey_IdAndIssuedToUser_IdAndRedeemedFalseAndRevokedFalse(surveyId, userId);
     }
 
+    /**
+     * Stellt allen Teammitgliedern ohne aktives Token eines aus: bestehende
+     * Inhaber in einer Abfrage, Klartext + Hash (ab
+     * {@link #PARALLEL_HASH_THRESHOLD} parallel) erzeugen, Rest per
+     * mehrzeiligem INSERT. Klartexte werden – wie bisher – nicht
+     * zurückgegeben; neue Inhaber mit E-Mail bekommen eine Einladung über die
+     * Mail-Outbox (je Survey und Empfänger höchstens einmal).
+     *
+     * @return Anzahl neu ausgestellter Tokens
+     */
     @Transactional
     public int ensureTokensForAllTeamMembers(UUID surveyId) {
         var teamId = surveyRepo.findTeamIdById(surveyId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-        var members = tmRepo.findByTeam_Id(teamId);
-        var surveyRef = Survey.ref(surveyId);
-        int created = 0;
-        for (var m : members) {
-            var uid = m.getUser().getId();
-            var email = m.getUser().getEmail();
-            var plain = ensurePersonalToken(surveyRef, uid, email);
-            if (plain != null)
-                created++;
-        }
+        requireOpen(surveyId);
+        Set<UUID> holders = tokenRepo.findActiveHolderIds(surveyId);
+        List<MemberContactView> missing = tmRepo.findContactsByTeamId(teamId).stream()
+                .filter(m -> !holders.contains(m.getUserId()))
+                .toList();
+        if (missing.isEmpty())
+            return 0;
+
+        var stream = missing.size() >= PARALLEL_HASH_THRESHOLD ? missing.parallelStream() : missing.stream();
+        List<NewToken> tokens = stream
+                .map(m -> new NewToken(UUID.randomUUID(), m.getUserId(), m.getEmail(),
+                        digest.sha256(UUID.randomUUID().toString())))
+                .toList();
+        int created = tokenBatchRepo.insertTokens(surveyId, clock.now(), tokens);
+        log.info("ISSUE bulk tokens: surveyId={} created={}", surveyId, created);
+        events.publishEvent(new SurveyTokensIssuedEvent(surveyId, tokens.stream().map(NewToken::tokenHash).toList()));
+        mailOutbox.enqueueAll(invitations(surveyId, missing));
         return created;
     }
 
+    private Map<String, Mail> invitations(UUID surveyId, List<MemberContactView> members) {
+        String subject = "Neue Umfrage in TeamAnalyzer";
+        String body = """
+                Hallo,
+
+                für dein Team wurde eine neue Umfrage gestartet. Deinen persönlichen
+                Zugang findest du nach dem Login unter:
+                %s
+
+                Die Teilnahme ist anonym.
+                """.formatted(frontendBaseUrl + "/my/tokens");
+        Map<String, Mail> mails = new LinkedHashMap<>();
+        for (MemberContactView m : members) {
+            if (m.getEmail() != null)
+                mails.put("survey-invite:" + surveyId + ":" + m.getEmail(), new Mail(m.getEmail(), subject, body));
+        }
+        return mails;
+    }
+
     @Transactional
     public SurveyToken redeem(UUID surveyId, String plainToken) {
         // nur Hash loggen
         byte[] hash = digest.sha256(plainToken);
         log.info("REDEEM token: surveyId={} hash={}", surveyId, HexFormat.of().formatHex(hash));
 
-        var tok = tokenRepo.findByTokenHashAndSurvey_Id(hash, surveyId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Invalid token"));
-        if (tok.isRevoked() || tok.isRedeemed())
-            throw new ResponseStatusException(HttpStatus.GONE, "Token already used");
-
-        tok.setRedeemed(true);
-        tok.setRedeemedAt(clock.now());
-        return tokenRepo.save(tok);
+        UUID id = redeemOrThrow(surveyId, hash);
+        return tokenRepo.findById(id).orElseThrow();
     }
 
     @Transactional
@@ -69,7 +69,11 @@ public class ApiExceptionHandler {
         ProblemDetail body = pd(status, status.getReasonPhrase(), ex.getReason(), req);
         if (includeStacktrace && status.is5xxServerError())
             body.setProperty("exception", ex.toString());
-        return respond(status, body);
+        // z. B. Retry-After bei 503
+        return ResponseEntity.status(status)
+                .headers(ex.getHeaders())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(body);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
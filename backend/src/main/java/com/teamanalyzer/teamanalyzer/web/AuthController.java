@@ -3,11 +3,13 @@ package com.teamanalyzer.teamanalyzer.web;
 import com.teamanalyzer.teamanalyzer.domain.RefreshToken;
 import com.teamanalyzer.teamanalyzer.domain.User;
 import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.port.PasswordHasher;
 import com.teamanalyzer.teamanalyzer.repo.RefreshTokenRepository;
 import com.teamanalyzer.teamanalyzer.repo.UserRepository;
 import com.teamanalyzer.teamanalyzer.service.EmailVerifyTokenService;
 import com.teamanalyzer.teamanalyzer.service.JwtService;
-import com.teamanalyzer.teamanalyzer.service.MailService;
+import com.teamanalyzer.teamanalyzer.service.MailOutboxService;
+import com.teamanalyzer.teamanalyzer.service.OverloadedException;
 import com.teamanalyzer.teamanalyzer.service.PasswordResetService;
 import com.teamanalyzer.teamanalyzer.web.dto.ConfirmPasswordDto;
 import com.teamanalyzer.teamanalyzer.web.dto.LoginDto;
@@ -20,9 +22,9 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.*;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -41,36 +43,33 @@ public class AuthController {
 
     private final UserRepository users;
     private final RefreshTokenRepository tokens;
-    private final PasswordEncoder enc;
+    private final PasswordHasher hasher;
     private final JwtService jwt;
     private final EmailVerifyTokenService emailTokenSvc;
-    private final MailService mail;
+    private final MailOutboxService mail;
     private final PasswordResetService passwordResetService;
     private final AppClock clock;
 
     private final String frontendBaseUrl;
     private final String verifyEndpointPath;
 
-    @Value("${app.mail.enabled:false}")
-    private boolean mailEnabled;
-
     @Value("${app.cookies.secure:true}")
     private boolean cookieSecure;
 
     public AuthController(
             UserRepository users,
             RefreshTokenRepository tokens,
-            PasswordEncoder enc,
+            PasswordHasher hasher,
             JwtService jwt,
             EmailVerifyTokenService emailTokenSvc,
-            MailService mail,
+            MailOutboxService mail,
             PasswordResetService passwordResetService,
             @Value("${app.frontend-base-url}") String frontendBaseUrl,
             @Value("${app.verify-endpoint-path}") String verifyEndpointPath,
             AppClock clock) {
         this.users = users;
         this.tokens = tokens;
-        this.enc = enc;
+        this.hasher = hasher;
         this.jwt = jwt;
         this.emailTokenSvc = emailTokenSvc;
         this.mail = mail;
@@ -98,7 +97,7 @@ public class AuthController {
         if (users.existsByEmail(email))
             return ResponseEntity.status(409).build();
 
-        var u = User.of(email, enc.encode(dto.password()));
+        var u = User.of(email, hasher.hash(dto.password()));
         u.setEnabled(false);
         users.save(u);
 
@@ -107,22 +106,17 @@ public class AuthController {
 
         log.info("DEV: Verification link for {} -> {}", email, link);
 
-        if (mailEnabled) {
-            try {
-                String subject = "Bitte bestätige deine E-Mail-Adresse";
-                String body = """
-                        Willkommen bei TeamAnalyzer!
-
-                        Bitte bestätige deine E-Mail, indem du auf den folgenden Link klickst:
-                        %s
-
-                        Der Link ist zeitlich begrenzt gültig.
-                        """.formatted(link);
-                mail.send(email, subject, body);
-            } catch (Exception ex) {
-                log.warn("E-Mail-Versand fehlgeschlagen (fahre ohne Mail fort): {}", ex.toString());
-            }
-        }
+        // Versand asynchron über die Outbox (no-op bei app.mail.enabled=false)
+        String subject = "Bitte bestätige deine E-Mail-Adresse";
+        String body = """
+                Willkommen bei TeamAnalyzer!
+
+                Bitte bestätige deine E-Mail, indem du auf den folgenden Link klickst:
+                %s
+
+                Der Link ist zeitlich begrenzt gültig.
+                """.formatted(link);
+        mail.enqueue(email, subject, body);
 
         return ResponseEntity.accepted().build();
     }
@@ -154,8 +148,9 @@ public class AuthController {
             HttpServletResponse res) {
         String email = dto.email().trim().toLowerCase();
         var user = users.findByEmailWithRoles(email).orElseThrow(() -> new BadCredentialsException("x"));
-        if (!user.isEnabled() || !enc.matches(dto.password(), user.getPasswordHash()))
+        if (!user.isEnabled() || !hasher.matches(dto.password(), user.getPasswordHash()))
             throw new BadCredentialsException("x");
+        rehashIfOutdated(user, dto.password());
 
         var access = jwt.createAccessToken(user);
 
@@ -176,6 +171,26 @@ public class AuthController {
         return ResponseEntity.ok(new TokenResponse(access));
     }
 
+    /**
+     * Gespeicherter Hash ist schwächer als die aktuelle Konfiguration → mit
+     * dem gerade geprüften Klartext neu hashen, per gezieltem UPDATE gegen
+     * den alten Hash. Überlast oder DB-Fehler lassen den Login gelingen; es
+     * wird beim nächsten Login erneut versucht.
+     */
+    private void rehashIfOutdated(User user, String rawPassword) {
+        String oldHash = user.getPasswordHash();
+        if (!hasher.needsRehash(oldHash))
+            return;
+        try {
+            if (users.replacePasswordHash(user.getId(), oldHash, hasher.hash(rawPassword)) == 1)
+                log.debug("Rehashed password for user {}", user.getId());
+        } catch (OverloadedException e) {
+            log.debug("Skipped rehash for user {}: {}", user.getId(), e.getReason());
+        } catch (DataAccessException e) {
+            log.warn("Rehash failed for user {}: {}", user.getId(), e.getMessage());
+        }
+    }
+
     @PostMapping("/refresh")
     public ResponseEntity<TokenResponse> refresh(
             @CookieValue(value = "refresh_token", required = false) String refresh,
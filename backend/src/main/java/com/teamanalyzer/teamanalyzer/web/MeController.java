@@ -15,8 +15,8 @@ import com.teamanalyzer.teamanalyzer.security.AuthUser;
 import com.teamanalyzer.teamanalyzer.web.dto.SurveyDto;
 import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
 import com.teamanalyzer.teamanalyzer.repo.TeamLiteView;
-import com.teamanalyzer.teamanalyzer.repo.TeamMemberRepository;
 import com.teamanalyzer.teamanalyzer.repo.TeamRepository;
+import com.teamanalyzer.teamanalyzer.service.TeamAccessCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,7 +25,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MeController {
 
-    private final TeamMemberRepository teamMemberRepository;
+    private final TeamAccessCache access;
     private final TeamRepository teamRepository;
     private final SurveyRepository surveyRepository;
 
@@ -34,7 +34,7 @@ public class MeController {
         if (me == null || me.userId() == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
-        boolean isLeader = teamMemberRepository.existsByUser_IdAndLeaderTrue(me.userId());
+        boolean isLeader = access.isLeaderAnywhere(me);
 
         return Map.of(
                 "id", me.userId().toString(),
@@ -0,0 +1,42 @@
+// src/main/java/com/teamanalyzer/teamanalyzer/web/SurveyAdminController.java
+package com.teamanalyzer.teamanalyzer.web;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.teamanalyzer.teamanalyzer.repo.SurveyResponseRepository;
+import com.teamanalyzer.teamanalyzer.service.SurveyStatsService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/surveys")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class SurveyAdminController {
+
+    private final SurveyStatsService statsService;
+    private final SurveyResponseRepository responseRepo;
+
+    /** Stats eines Surveys aus den Rohantworten neu berechnen. */
+    @PostMapping("/{surveyId}/stats/rebuild")
+    public Map<String, Object> rebuildStats(@PathVariable UUID surveyId) {
+        int questions = statsService.rebuild(surveyId);
+        return Map.of("surveyId", surveyId, "questions", questions);
+    }
+
+    /** Stats aller Surveys neu berechnen (eine Tx je Survey). */
+    @PostMapping("/stats/rebuild")
+    public Map<String, Object> rebuildAllStats() {
+        return Map.of("surveys", statsService.rebuildAll());
+    }
+
+    /** Abgaben ohne {@code answers_packed} aus ihren Antwortzeilen packen (vor Umstieg auf PACKED). */
+    @PostMapping("/answers/pack")
+    public Map<String, Object> packAnswers() {
+        return Map.of("packed", responseRepo.backfillPackedAnswers());
+    }
+}
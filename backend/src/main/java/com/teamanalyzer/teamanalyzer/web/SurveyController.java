@@ -5,30 +5,41 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamanalyzer.teamanalyzer.domain.Survey;
-import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
-import com.teamanalyzer.teamanalyzer.repo.TeamMemberRepository;
 import com.teamanalyzer.teamanalyzer.security.AuthUser;
 import com.teamanalyzer.teamanalyzer.service.DownloadTokenService;
+import com.teamanalyzer.teamanalyzer.service.SurveyExportService;
+import com.teamanalyzer.teamanalyzer.service.SurveyLifecycleService;
+import com.teamanalyzer.teamanalyzer.service.SurveyResultsBroadcaster;
+import com.teamanalyzer.teamanalyzer.service.SurveyResultsCache;
 import com.teamanalyzer.teamanalyzer.service.SurveyService;
+import com.teamanalyzer.teamanalyzer.service.SurveySubmissionService;
+import com.teamanalyzer.teamanalyzer.service.TeamAccessCache;
 import com.teamanalyzer.teamanalyzer.service.TokenService;
 import com.teamanalyzer.teamanalyzer.web.dto.CreateSurveyRequestDto;
 import com.teamanalyzer.teamanalyzer.web.dto.MyTokenDto;
 import com.teamanalyzer.teamanalyzer.web.dto.SubmitSurveyRequestDto;
 import com.teamanalyzer.teamanalyzer.web.dto.SurveyDto;
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDetailDto;
 import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDto;
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsPageDto;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -42,10 +53,16 @@ public class SurveyController {
 
   private final SurveyService surveyService;
   private final TokenService tokenService;
-  private final TeamMemberRepository tmRepo;
-  private final SurveyRepository surveyRepo;
+  private final TeamAccessCache access;
   private final DownloadTokenService downloadTokens;
-  private final ObjectMapper objectMapper;
+  private final SurveyExportService exportService;
+  private final SurveyResultsCache resultsCache;
+  private final SurveyResultsBroadcaster resultsBroadcaster;
+  private final SurveyLifecycleService lifecycleService;
+  private final SurveySubmissionService submissionService;
+
+  /** Nur im Browser des Nutzers cachen, aber immer per ETag revalidieren. */
+  private static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
 
   @PersistenceContext
   private EntityManager em;
@@ -72,7 +89,7 @@ public class SurveyController {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Missing teamId");
 
     boolean isAdmin = hasRole("ROLE_ADMIN");
-    boolean isLeaderOfTeam = tmRepo.existsByTeam_IdAndUser_IdAndLeaderTrue(req.teamId(), me.userId());
+    boolean isLeaderOfTeam = access.isLeader(me, req.teamId());
     if (!(isAdmin || isLeaderOfTeam))
       throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You must be leader of the selected team");
 
@@ -84,9 +101,14 @@ public class SurveyController {
   }
 
   // --- Fragen lesen (öffentlich) ---
+  // ETag aus den Versionsspalten; If-None-Match → 304 ohne Laden der Definition
   @GetMapping("/{id}")
-  public SurveyDto get(@PathVariable UUID id) {
-    return surveyService.getSurvey(id);
+  public ResponseEntity<SurveyDto> get(@PathVariable UUID id, WebRequest request) {
+    String etag = surveyService.surveyETag(id)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+    if (request.checkNotModified(etag))
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+    return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(surveyService.getSurvey(id));
   }
 
   // --- Antworten abgeben (öffentlich mit One-Time-Token) ---
@@ -95,7 +117,7 @@ public class SurveyController {
     if (req.token() == null || req.token().isBlank()) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Missing token");
     }
-    surveyService.submitAnonymousByPlainToken(
+    submissionService.submit(
         id,
         req.token(),
         new short[] { req.q1(), req.q2(), req.q3(), req.q4(), req.q5() });
@@ -104,15 +126,82 @@ public class SurveyController {
 
   // --- Ergebnisse (nur Admin oder Leader des Survey-Teams) ---
   @GetMapping("/{id}/results")
-  public SurveyResultsDto results(@AuthenticationPrincipal AuthUser me, @PathVariable UUID id) {
+  public ResponseEntity<SurveyResultsDto> results(@AuthenticationPrincipal AuthUser me, @PathVariable UUID id,
+      @RequestParam(name = "items", defaultValue = "true") boolean items, WebRequest request) {
+    if (me == null || me.userId() == null)
+      throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+    boolean isAdmin = hasRole("ROLE_ADMIN");
+    boolean isLeaderOfTeam = access.isLeaderOfSurvey(me, id);
+    if (!(isAdmin || isLeaderOfTeam)) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You must be leader of this survey's team");
+    }
+    // Unverändert (Anzahl + jüngste Abgabe) → 304, bevor Cache/Aggregation/Serialisierung laufen
+    String etag = surveyService.resultsETag(id, items ? "i" : "a");
+    if (request.checkNotModified(etag))
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(PRIVATE_REVALIDATE).build();
+    // items=false: nur Aggregate, keine Einzelantworten laden; Cache-Eintrag nur bei gleichem ETag
+    var body = resultsCache.get(id, items, etag, () -> surveyService.getResults(id, items));
+    return ResponseEntity.ok().eTag(etag).cacheControl(PRIVATE_REVALIDATE).body(body);
+  }
+
+  // --- Delta-Polling: nur Abgaben nach dem Cursor (Admin oder Leader) ---
+  @GetMapping(value = "/{id}/results", params = "since")
+  public SurveyResultsPageDto resultsSince(@AuthenticationPrincipal AuthUser me, @PathVariable UUID id,
+      @RequestParam("since") String since,
+      @RequestParam(name = "limit", defaultValue = "500") int limit) {
+    if (me == null || me.userId() == null)
+      throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+    boolean isAdmin = hasRole("ROLE_ADMIN");
+    boolean isLeaderOfTeam = access.isLeaderOfSurvey(me, id);
+    if (!(isAdmin || isLeaderOfTeam)) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You must be leader of this survey's team");
+    }
+    return surveyService.getResultsSince(id, since, limit);
+  }
+
+  // --- Live-Ergebnisse per SSE (Admin oder Leader); ersetzt Polling ---
+  @GetMapping(value = "/{id}/results/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter resultsStream(@AuthenticationPrincipal AuthUser me, @PathVariable UUID id) {
     if (me == null || me.userId() == null)
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
     boolean isAdmin = hasRole("ROLE_ADMIN");
-    boolean isLeaderOfTeam = surveyRepo.existsByIdAndTeam_Members_User_IdAndTeam_Members_LeaderTrue(id, me.userId());
+    boolean isLeaderOfTeam = access.isLeaderOfSurvey(me, id);
     if (!(isAdmin || isLeaderOfTeam)) {
       throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You must be leader of this survey's team");
     }
-    return surveyService.getResults(id);
+    return resultsBroadcaster.subscribe(id);
+  }
+
+  // --- Verteilung/Median/Modus/Top-2-Box je Frage (Admin oder Leader) ---
+  @GetMapping("/{id}/results/distribution")
+  public ResponseEntity<SurveyResultsDetailDto> resultsDistribution(@AuthenticationPrincipal AuthUser me,
+      @PathVariable UUID id, WebRequest request) {
+    if (me == null || me.userId() == null)
+      throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+    boolean isAdmin = hasRole("ROLE_ADMIN");
+    boolean isLeaderOfTeam = access.isLeaderOfSurvey(me, id);
+    if (!(isAdmin || isLeaderOfTeam)) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You must be leader of this survey's team");
+    }
+    String etag = surveyService.resultsETag(id, "d");
+    if (request.checkNotModified(etag))
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(PRIVATE_REVALIDATE).build();
+    return ResponseEntity.ok().eTag(etag).cacheControl(PRIVATE_REVALIDATE).body(surveyService.getResultsDetail(id));
+  }
+
+  // --- Survey schließen: Tokens widerrufen, Ergebnisse einfrieren (Admin oder Leader) ---
+  @PostMapping("/{id}/close")
+  public Map<String, Object> close(@AuthenticationPrincipal AuthUser me, @PathVariable UUID id) {
+    if (me == null || me.userId() == null)
+      throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+    boolean isAdmin = hasRole("ROLE_ADMIN");
+    boolean isLeaderOfTeam = access.isLeaderOfSurvey(me, id);
+    if (!(isAdmin || isLeaderOfTeam)) {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You must be leader of this survey's team");
+    }
+    var res = lifecycleService.close(id);
+    return Map.of("surveyId", id, "status", "CLOSED",
+        "revokedTokens", res.revokedTokens(), "responses", res.responses());
   }
 
   // --- Tokens für alle Teammitglieder des Surveys sicherstellen ---
@@ -121,7 +210,7 @@ public class SurveyController {
     if (me == null || me.userId() == null)
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
     boolean isAdmin = hasRole("ROLE_ADMIN");
-    boolean isLeaderOfTeam = surveyRepo.existsByIdAndTeam_Members_User_IdAndTeam_Members_LeaderTrue(id, me.userId());
+    boolean isLeaderOfTeam = access.isLeaderOfSurvey(me, id);
     if (!(isAdmin || isLeaderOfTeam)) {
       throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You must be leader of this survey's team");
     }
@@ -137,9 +226,9 @@ public class SurveyController {
     if (me == null || me.userId() == null)
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
 
-    UUID teamId = surveyRepo.findTeamIdById(id)
+    UUID teamId = access.teamOfSurvey(id)
         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-    boolean isMember = tmRepo.existsByTeam_IdAndUser_Id(teamId, me.userId());
+    boolean isMember = access.isMember(me, teamId);
     if (!isMember && !hasRole("ROLE_ADMIN")) {
       throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not a member of this survey's team");
     }
@@ -160,9 +249,9 @@ public class SurveyController {
     if (me == null || me.userId() == null)
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
 
-    UUID teamId = surveyRepo.findTeamIdById(id) // <— umbenannte Repo-Methode
+    UUID teamId = access.teamOfSurvey(id)
         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-    boolean isMember = tmRepo.existsByTeam_IdAndUser_Id(teamId, me.userId());
+    boolean isMember = access.isMember(me, teamId);
     if (!isMember && !hasRole("ROLE_ADMIN")) {
       throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not a member of this survey's team");
     }
@@ -181,7 +270,7 @@ public class SurveyController {
     if (me == null || me.userId() == null)
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
     boolean isAdmin = hasRole("ROLE_ADMIN");
-    boolean isLeaderOfTeam = surveyRepo.existsByIdAndTeam_Members_User_IdAndTeam_Members_LeaderTrue(id, me.userId());
+    boolean isLeaderOfTeam = access.isLeaderOfSurvey(me, id);
     if (!(isAdmin || isLeaderOfTeam))
       throw new ResponseStatusException(HttpStatus.FORBIDDEN);
 
@@ -196,23 +285,40 @@ public class SurveyController {
         .body(Map.of("url", url));
   }
 
+  /**
+   * Export per Download-Token. {@code format=json|csv|ndjson}, optional gzip.
+   * Wird über {@link StreamingResponseBody} direkt aus dem DB-Cursor
+   * geschrieben – kein Puffern des gesamten Payloads.
+   */
   @GetMapping("/{id}/results/download")
-  public ResponseEntity<byte[]> downloadViaToken(@PathVariable UUID id, @RequestParam("dl") String dl)
-      throws Exception {
+  public ResponseEntity<StreamingResponseBody> downloadViaToken(@PathVariable UUID id, @RequestParam("dl") String dl,
+      @RequestParam(name = "format", defaultValue = "json") String format,
+      @RequestParam(name = "gzip", defaultValue = "false") boolean gzip) {
     UUID userId = downloadTokens.verifyAndExtractUser(dl, id);
     boolean allowed = hasRole("ROLE_ADMIN") ||
-        surveyRepo.existsByIdAndTeam_Members_User_IdAndTeam_Members_LeaderTrue(id, userId);
+        access.isLeaderOfSurvey(userId, id);
     if (!allowed)
       throw new ResponseStatusException(HttpStatus.FORBIDDEN);
 
-    SurveyResultsDto dto = surveyService.getResults(id);
-    byte[] json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(dto);
+    SurveyExportService.Format fmt = SurveyExportService.Format.parse(format);
+    String filename = "survey-" + id + "-results." + fmt.extension + (gzip ? ".gz" : "");
+
+    StreamingResponseBody body = out -> {
+      if (gzip) {
+        try (GZIPOutputStream gz = new GZIPOutputStream(out, 8192)) {
+          exportService.write(id, fmt, gz);
+        }
+      } else {
+        exportService.write(id, fmt, out);
+      }
+    };
+
     return ResponseEntity.ok()
-        .header("Content-Disposition", "attachment; filename=\"survey-" + id + "-results.json\"")
+        .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
         .header("Cache-Control", "no-store")
         .header("Pragma", "no-cache")
-        .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
-        .body(json);
+        .contentType(gzip ? MediaType.parseMediaType("application/gzip") : fmt.mediaType)
+        .body(body);
   }
 
   private String buildBaseFromRequest(HttpServletRequest req) {
@@ -5,6 +5,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,6 +21,7 @@ import com.teamanalyzer.teamanalyzer.domain.User;
 import com.teamanalyzer.teamanalyzer.repo.TeamMemberRepository;
 import com.teamanalyzer.teamanalyzer.repo.TeamRepository;
 import com.teamanalyzer.teamanalyzer.repo.UserRepository;
+import com.teamanalyzer.teamanalyzer.service.TeamMembershipChangedEvent;
 import com.teamanalyzer.teamanalyzer.service.TeamService;
 import com.teamanalyzer.teamanalyzer.web.dto.CreateTeamRequestDto;
 import com.teamanalyzer.teamanalyzer.web.dto.TeamAdminDto;
@@ -40,6 +42,7 @@ public class TeamAdminController {
     private final TeamRepository teamRepo;
     private final UserRepository userRepo;
     private final TeamMemberRepository teamMemberRepo;
+    private final ApplicationEventPublisher events;
 
     @PostMapping
     public ResponseEntity<Team> create(@RequestBody CreateTeamRequestDto body) {
@@ -76,6 +79,7 @@ public class TeamAdminController {
         boolean prevLeader = member.isLeader();
         member.setLeader(body.leader());
         teamMemberRepo.save(member);
+        events.publishEvent(TeamMembershipChangedEvent.of(teamId, userId));
 
         if (prevLeader != body.leader() || member.getCreatedAt() == null) {
             syncLeaderRole(user);
@@ -92,6 +96,7 @@ public class TeamAdminController {
 
         User user = member.getUser();
         teamMemberRepo.delete(member);
+        events.publishEvent(TeamMembershipChangedEvent.of(teamId, userId));
 
         syncLeaderRole(user);
     }
@@ -109,6 +114,7 @@ public class TeamAdminController {
 
         m.setLeader(leader);
         teamMemberRepo.save(m);
+        events.publishEvent(TeamMembershipChangedEvent.of(teamId, userId));
 
         User user = m.getUser();
         syncLeaderRole(user);
@@ -123,6 +129,8 @@ public class TeamAdminController {
 
         teamMemberRepo.deleteByTeam_Id(teamId);
         teamRepo.deleteById(teamId);
+        events.publishEvent(new TeamMembershipChangedEvent(teamId,
+                members.stream().map(User::getId).toList(), true));
 
         // Für jeden betroffenen User Leader-Rolle neu bewerten
         for (User u : members) {
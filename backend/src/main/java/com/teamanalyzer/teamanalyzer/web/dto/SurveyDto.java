@@ -1,8 +1,10 @@
 package com.teamanalyzer.teamanalyzer.web.dto;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import com.teamanalyzer.teamanalyzer.domain.QuestionSet;
 import com.teamanalyzer.teamanalyzer.domain.Survey;
 import com.teamanalyzer.teamanalyzer.domain.SurveyQuestion;
 
@@ -11,7 +13,8 @@ public record SurveyDto(
         String title,
         UUID createdBy,
         String teamName,
-        List<QuestionDto> questions) {
+        List<QuestionDto> questions,
+        String status) {
     public static record QuestionDto(UUID id, short idx, String text) {
     }
 
@@ -19,12 +22,24 @@ public record SurveyDto(
         var questions = qs.stream()
                 .map(q -> new QuestionDto(q.getId(), q.getIdx(), q.getText()))
                 .toList();
+        return of(s, questions);
+    }
+
+    public static SurveyDto from(Survey s, QuestionSet qs) {
+        var questions = new ArrayList<QuestionDto>(qs.size());
+        for (int i = 0; i < qs.size(); i++) {
+            questions.add(new QuestionDto(qs.id(i), qs.idx(i), qs.text(i)));
+        }
+        return of(s, List.copyOf(questions));
+    }
 
+    private static SurveyDto of(Survey s, List<QuestionDto> questions) {
         return new SurveyDto(
                 s.getId(),
                 s.getTitle(),
                 s.getCreatedBy(),
                 s.getTeam().getName(),
-                questions);
+                questions,
+                s.getStatus().name());
     }
 }
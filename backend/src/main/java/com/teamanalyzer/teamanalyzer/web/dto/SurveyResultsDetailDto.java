@@ -0,0 +1,46 @@
+package com.teamanalyzer.teamanalyzer.web.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.teamanalyzer.teamanalyzer.domain.LikertHistogram;
+
+/**
+ * Erweiterte Ergebnisse: wie {@link SurveyResultsDto} (Durchschnitte, n),
+ * zusätzlich Verteilung und Lage-/Streuungsmaße je Frage.
+ */
+public record SurveyResultsDetailDto(
+        double a1, double a2, double a3, double a4, double a5,
+        int n,
+        List<QuestionDistributionDto> questions) {
+
+    public static record QuestionDistributionDto(
+            short idx,
+            long count,
+            int[] counts,
+            double[] distribution,
+            double mean,
+            double median,
+            int mode,
+            double stddev,
+            double top2Box) {
+
+        public static QuestionDistributionDto from(short idx, LikertHistogram h) {
+            var s = h.summarize();
+            return new QuestionDistributionDto(idx, s.n(), h.counts(), s.distribution(),
+                    s.mean(), s.median(), s.mode(), s.stddev(), s.top2Box());
+        }
+    }
+
+    public static SurveyResultsDetailDto of(int n, LikertHistogram[] histograms) {
+        var questions = new ArrayList<QuestionDistributionDto>(histograms.length);
+        for (int i = 0; i < histograms.length; i++) {
+            questions.add(QuestionDistributionDto.from((short) (i + 1), histograms[i]));
+        }
+        double[] a = new double[5];
+        for (int i = 0; i < a.length && i < questions.size(); i++) {
+            a[i] = questions.get(i).mean();
+        }
+        return new SurveyResultsDetailDto(a[0], a[1], a[2], a[3], a[4], n, List.copyOf(questions));
+    }
+}
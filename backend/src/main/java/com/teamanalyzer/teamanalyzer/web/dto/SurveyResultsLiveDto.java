@@ -0,0 +1,17 @@
+package com.teamanalyzer.teamanalyzer.web.dto;
+
+import java.util.UUID;
+
+/**
+ * Live-Stand der Aggregate (SSE): n sowie Summen/Anzahlen und
+ * Durchschnitte je Frage (Position 0 = idx 1). Bewusst vollständig statt
+ * als Differenz – ein Abonnent erhält nur den jeweils letzten Stand
+ * (Conflation), übersprungene Stände dürfen also nichts verlieren.
+ */
+public record SurveyResultsLiveDto(
+        UUID surveyId,
+        int n,
+        long[] sums,
+        long[] counts,
+        double[] averages) {
+}
@@ -0,0 +1,15 @@
+package com.teamanalyzer.teamanalyzer.web.dto;
+
+import java.util.List;
+
+/**
+ * Delta-Polling: aktuelle Aggregate plus nur die Abgaben nach dem Cursor.
+ * {@code nextCursor} beim nächsten Poll als {@code since} mitschicken.
+ */
+public record SurveyResultsPageDto(
+        double a1, double a2, double a3, double a4, double a5,
+        int n,
+        List<SingleSurveyResultDto> items,
+        String nextCursor,
+        boolean hasMore) {
+}
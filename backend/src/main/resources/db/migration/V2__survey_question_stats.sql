@@ -0,0 +1,40 @@
+/* =========================
+SURVEY QUESTION STATS (Read-Model)
+Summe, Anzahl und Histogramm 1..5 je Survey/Frage; wird bei jeder Abgabe
+in derselben Tx fortgeschrieben.
+========================= */
+CREATE TABLE
+  survey_question_stats (
+    survey_id BINARY(16) NOT NULL,
+    idx SMALLINT UNSIGNED NOT NULL,
+    answer_count BIGINT NOT NULL DEFAULT 0,
+    answer_sum BIGINT NOT NULL DEFAULT 0,
+    h1 BIGINT NOT NULL DEFAULT 0,
+    h2 BIGINT NOT NULL DEFAULT 0,
+    h3 BIGINT NOT NULL DEFAULT 0,
+    h4 BIGINT NOT NULL DEFAULT 0,
+    h5 BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT pk_survey_question_stats PRIMARY KEY (survey_id, idx),
+    CONSTRAINT fk_sqs_survey FOREIGN KEY (survey_id) REFERENCES surveys (id) ON DELETE CASCADE
+  );
+
+/* Backfill für bestehende Surveys (auch ohne Antworten → Nullzeilen) */
+INSERT INTO
+  survey_question_stats (survey_id, idx, answer_count, answer_sum, h1, h2, h3, h4, h5)
+SELECT
+  q.survey_id,
+  q.idx,
+  COUNT(a.id),
+  COALESCE(SUM(a.value), 0),
+  COALESCE(SUM(a.value = 1), 0),
+  COALESCE(SUM(a.value = 2), 0),
+  COALESCE(SUM(a.value = 3), 0),
+  COALESCE(SUM(a.value = 4), 0),
+  COALESCE(SUM(a.value = 5), 0)
+FROM
+  survey_questions q
+  LEFT JOIN survey_answers a ON a.question_id = q.id
+GROUP BY
+  q.survey_id,
+  q.idx;
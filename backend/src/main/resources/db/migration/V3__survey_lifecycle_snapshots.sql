@@ -0,0 +1,23 @@
+/* =========================
+SURVEY LIFECYCLE (OPEN → CLOSED)
+========================= */
+ALTER TABLE surveys
+  ADD COLUMN status VARCHAR(16) NOT NULL DEFAULT 'OPEN',
+  ADD COLUMN closed_at TIMESTAMP NULL;
+
+/* =========================
+RESULT SNAPSHOTS (unveränderlich, beim Schließen geschrieben)
+histograms: question_count × 5 × INT (big-endian)
+items: je Abgabe 16 Byte id + 8 Byte created_at (Epoch-Millis) + question_count Byte Werte
+========================= */
+CREATE TABLE
+  survey_result_snapshots (
+    survey_id BINARY(16) NOT NULL,
+    response_count INT NOT NULL,
+    question_count SMALLINT NOT NULL,
+    histograms VARBINARY(1024) NOT NULL,
+    items LONGBLOB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_survey_result_snapshots PRIMARY KEY (survey_id),
+    CONSTRAINT fk_srs_survey FOREIGN KEY (survey_id) REFERENCES surveys (id) ON DELETE CASCADE
+  );
@@ -0,0 +1,26 @@
+/* =========================
+PACKED ANSWERS (kompakte Alternative zu survey_answers)
+Ein Byte je Frage (Position i = answer_order i = idx i + 1, Wert 1..5)
+direkt an der Abgabe. Gesteuert über app.responses.storage (rows | dual | packed).
+========================= */
+ALTER TABLE survey_responses
+  ADD COLUMN answers_packed VARBINARY(64) NULL;
+
+/* Backfill aus den Antwortzeilen (nur vollständige, lückenlose Abgaben) */
+UPDATE survey_responses r
+  JOIN (
+    SELECT
+      a.response_id,
+      CAST(GROUP_CONCAT(CHAR(a.value) ORDER BY a.answer_order SEPARATOR '') AS BINARY) AS packed,
+      COUNT(*) AS n,
+      MAX(a.answer_order) AS max_order
+    FROM
+      survey_answers a
+    GROUP BY
+      a.response_id
+  ) p ON p.response_id = r.id
+SET
+  r.answers_packed = p.packed
+WHERE
+  r.answers_packed IS NULL
+  AND p.n = p.max_order + 1;
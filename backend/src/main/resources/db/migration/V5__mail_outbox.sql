@@ -0,0 +1,25 @@
+/* =========================
+MAIL OUTBOX
+Mails werden in der fachlichen Transaktion hier abgelegt und vom
+MailOutboxDispatcher im Hintergrund gebündelt versendet (Retry mit Backoff).
+dedup_key (optional) verhindert doppelte Mails an denselben Empfänger
+für denselben Anlass, z. B. 'survey-invite:<surveyId>:<email>'.
+========================= */
+CREATE TABLE
+  mail_outbox (
+    id BINARY(16) NOT NULL,
+    recipient VARCHAR(254) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    dedup_key VARCHAR(320) NULL,
+    status VARCHAR(16) NOT NULL DEFAULT 'PENDING', -- PENDING | SENT | FAILED
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME (6) NOT NULL,
+    last_error VARCHAR(500) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at DATETIME (6) NULL,
+    CONSTRAINT pk_mail_outbox PRIMARY KEY (id),
+    CONSTRAINT uq_mail_outbox_dedup UNIQUE (dedup_key)
+  );
+
+CREATE INDEX ix_mail_outbox_due ON mail_outbox (status, next_attempt_at);
@@ -0,0 +1,8 @@
+/* =========================
+CLAIMS VERSION
+Wird bei jeder Änderung der Team-Mitgliedschaften eines Users erhöht.
+Access-Tokens mit eingebetteten Team-Claims tragen die Version, mit der
+sie ausgestellt wurden; ältere Tokens werden abgewiesen (→ Refresh).
+========================= */
+ALTER TABLE users
+  ADD COLUMN claims_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,77 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/domain/LikertHistogramTest.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+class LikertHistogramTest {
+
+    private static final Offset<Double> EPS = within(1e-9);
+
+    /** Referenz: klassisch über ein sortiertes Array. */
+    private static double median(int[] sorted) {
+        int n = sorted.length;
+        return (sorted[(n - 1) / 2] + sorted[n / 2]) / 2.0;
+    }
+
+    @Test
+    void summarize_matchesSortBasedReference() {
+        Random rnd = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            int n = 1 + rnd.nextInt(300);
+            int[] values = new int[n];
+            var h = new LikertHistogram();
+            for (int i = 0; i < n; i++) {
+                values[i] = 1 + rnd.nextInt(5);
+                h.add(values[i]);
+            }
+            Arrays.sort(values);
+            double mean = Arrays.stream(values).average().orElseThrow();
+            double var = Arrays.stream(values).mapToDouble(v -> (v - mean) * (v - mean)).sum() / n;
+            long top2 = Arrays.stream(values).filter(v -> v >= 4).count();
+
+            var s = h.summarize();
+
+            assertThat(s.n()).isEqualTo(n);
+            assertThat(s.mean()).isCloseTo(mean, EPS);
+            assertThat(s.median()).isEqualTo(median(values));
+            assertThat(s.stddev()).isCloseTo(Math.sqrt(var), within(1e-7));
+            assertThat(s.top2Box()).isCloseTo((double) top2 / n, EPS);
+            assertThat(Arrays.stream(s.distribution()).sum()).isCloseTo(1.0, EPS);
+            assertThat(h.count(s.mode())).isEqualTo(Arrays.stream(h.counts()).max().orElseThrow());
+        }
+    }
+
+    @Test
+    void summarize_evenCount_averagesMiddleRanks_andModeTiesPickLowest() {
+        var h = LikertHistogram.of(0, 2, 0, 2, 0); // 2,2,4,4
+
+        var s = h.summarize();
+
+        assertThat(s.median()).isEqualTo(3.0);
+        assertThat(s.mode()).isEqualTo(2);
+        assertThat(s.top2Box()).isEqualTo(0.5);
+    }
+
+    @Test
+    void summarize_empty_returnsZeros() {
+        var s = new LikertHistogram().summarize();
+
+        assertThat(s.n()).isZero();
+        assertThat(s.mean()).isZero();
+        assertThat(s.median()).isZero();
+        assertThat(s.mode()).isZero();
+    }
+
+    @Test
+    void add_rejectsOutOfRange() {
+        var h = new LikertHistogram();
+        assertThatThrownBy(() -> h.add(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> h.add(6)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
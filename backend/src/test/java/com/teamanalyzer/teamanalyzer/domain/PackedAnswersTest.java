@@ -0,0 +1,77 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/domain/PackedAnswersTest.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class PackedAnswersTest {
+
+    @Test
+    void packUnpack_roundTrip_oneBytePerQuestion() {
+        // arrange
+        short[] values = { 1, 2, 3, 4, 5 };
+
+        // act
+        byte[] packed = PackedAnswers.pack(values);
+
+        // assert
+        assertThat(packed).containsExactly(1, 2, 3, 4, 5);
+        assertThat(PackedAnswers.unpack(packed, 5)).containsExactly(values);
+        assertThat(PackedAnswers.unpack(null, 3)).containsExactly(0, 0, 0);
+    }
+
+    @Test
+    void pack_rejectsOutOfRange() {
+        assertThatThrownBy(() -> PackedAnswers.pack(new short[] { 6 }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void packedResponses_matchRowResponses_inResponseApiAndAnalytics() {
+        // arrange: dieselben Werte einmal als Zeilen, einmal gepackt
+        UUID surveyId = UUID.randomUUID();
+        List<SurveyQuestion> questions = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            var q = new SurveyQuestion();
+            q.setIdx((short) i);
+            questions.add(q);
+        }
+        Random rnd = new Random(7);
+        List<SurveyResponse> rows = new ArrayList<>();
+        List<SurveyResponse> packed = new ArrayList<>();
+        for (int r = 0; r < 100; r++) {
+            short[] v = new short[5];
+            var rowResp = SurveyResponse.create(Survey.ref(surveyId), null);
+            for (int i = 0; i < 5; i++) {
+                v[i] = (short) (1 + rnd.nextInt(5));
+                var a = new SurveyAnswer();
+                a.setQuestion(questions.get(i));
+                a.setValue(v[i]);
+                a.setAnswerOrder(i);
+                rowResp.addAnswer(a);
+            }
+            var packedResp = SurveyResponse.create(Survey.ref(surveyId), null);
+            packedResp.setPackedAnswers(v);
+            rows.add(rowResp);
+            packed.add(packedResp);
+        }
+
+        // act + assert
+        for (int r = 0; r < rows.size(); r++) {
+            assertThat(packed.get(r).answerValues(5)).containsExactly(rows.get(r).answerValues(5));
+            assertThat(packed.get(r).findValueByIdx(3)).isEqualTo(rows.get(r).findValueByIdx(3));
+        }
+        assertThat(SurveyAnalytics.averages(packed)).containsExactly(SurveyAnalytics.averages(rows));
+        LikertHistogram[] hp = SurveyAnalytics.histograms(packed);
+        LikertHistogram[] hr = SurveyAnalytics.histograms(rows);
+        for (int i = 0; i < 5; i++) {
+            assertThat(hp[i].counts()).containsExactly(hr[i].counts());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/domain/SurveyResultSnapshotTest.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class SurveyResultSnapshotTest {
+
+    record Item(UUID id, Instant createdAt, List<Short> answers) {
+    }
+
+    @Test
+    void builder_packsItemsAndHistograms_roundTrip() throws Exception {
+        Random rnd = new Random(1);
+        UUID surveyId = UUID.randomUUID();
+        var b = SurveyResultSnapshot.builder(surveyId, 5);
+        List<Item> expected = new ArrayList<>();
+        LikertHistogram[] hist = new LikertHistogram[5];
+        for (int i = 0; i < 5; i++)
+            hist[i] = new LikertHistogram();
+
+        short[] buf = new short[5]; // wie im JDBC-Cursor wiederverwendet
+        for (int r = 0; r < 100; r++) {
+            List<Short> values = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                buf[i] = (short) (1 + rnd.nextInt(5));
+                values.add(buf[i]);
+                hist[i].add(buf[i]);
+            }
+            var item = new Item(UUID.randomUUID(), Instant.ofEpochSecond(1_700_000_000L + r), values);
+            expected.add(item);
+            b.add(item.id(), item.createdAt(), buf);
+        }
+
+        SurveyResultSnapshot snap = b.build();
+
+        assertThat(snap.getResponseCount()).isEqualTo(100);
+        assertThat(snap.getItems()).hasSize(100 * (16 + 8 + 5));
+        assertThat(snap.histogramsPerQuestion()).containsExactly(hist);
+        List<Item> actual = new ArrayList<>();
+        snap.forEachItem((id, ts, answers) -> {
+            List<Short> values = new ArrayList<>();
+            for (short v : answers)
+                values.add(v);
+            actual.add(new Item(id, ts, values));
+        });
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void emptySurvey_hasZeroHistograms() {
+        SurveyResultSnapshot snap = SurveyResultSnapshot.builder(UUID.randomUUID(), 5).build();
+
+        assertThat(snap.getResponseCount()).isZero();
+        assertThat(snap.histogramsPerQuestion()).allSatisfy(h -> assertThat(h.summarize().n()).isZero());
+    }
+}
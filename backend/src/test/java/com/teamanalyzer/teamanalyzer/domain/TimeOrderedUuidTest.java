@@ -0,0 +1,68 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/domain/TimeOrderedUuidTest.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.teamanalyzer.teamanalyzer.repo.UuidBytes;
+
+class TimeOrderedUuidTest {
+
+    @Test
+    void next_isVersion7_withRfcVariant_andCurrentTimestamp() {
+        // arrange
+        long before = System.currentTimeMillis();
+
+        // act
+        UUID id = TimeOrderedUuid.next();
+
+        // assert
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        // Sequenzüberlauf anderer Tests darf wenige ms vorauslaufen
+        assertThat(TimeOrderedUuid.epochMillis(id)).isBetween(before, System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    void sameMillisecond_staysStrictlyOrdered_asBinary16() {
+        // arrange
+        long now = System.currentTimeMillis();
+        List<UUID> ids = new ArrayList<>();
+
+        // act
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TimeOrderedUuid.next(now));
+        }
+
+        // assert: BINARY(16) vergleicht bytewise unsigned
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Arrays.compareUnsigned(UuidBytes.of(ids.get(i - 1)), UuidBytes.of(ids.get(i))))
+                    .isNegative();
+        }
+    }
+
+    @Test
+    void clockGoingBackwards_doesNotBreakOrder() {
+        // arrange
+        long now = System.currentTimeMillis();
+        UUID first = TimeOrderedUuid.next(now);
+
+        // act
+        UUID second = TimeOrderedUuid.next(now - 5_000);
+
+        // assert
+        assertThat(Arrays.compareUnsigned(UuidBytes.of(first), UuidBytes.of(second))).isNegative();
+    }
+
+    @Test
+    void optInPerEntity() {
+        assertThat(new SurveyAnswer().getId().version()).isEqualTo(7);
+        assertThat(new SurveyQuestion().getId().version()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,60 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/domain/TokenBloomFilterTest.java
+package com.teamanalyzer.teamanalyzer.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBloomFilterTest {
+
+    private static byte[] sha256(String s) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void addedHashes_areAlwaysFound() throws Exception {
+        // arrange
+        var filter = new TokenBloomFilter(1000, 0.01);
+
+        // act
+        for (int i = 0; i < 1000; i++)
+            filter.add(sha256("issued-" + i));
+
+        // assert
+        for (int i = 0; i < 1000; i++)
+            assertThat(filter.mightContain(sha256("issued-" + i))).isTrue();
+        assertThat(filter.isSaturated()).isFalse();
+    }
+
+    @Test
+    void unknownHashes_falsePositiveRateNearConfigured() throws Exception {
+        // arrange
+        var filter = new TokenBloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++)
+            filter.add(sha256("issued-" + i));
+
+        // act
+        int hits = 0;
+        for (int i = 0; i < 20000; i++) {
+            if (filter.mightContain(sha256("garbage-" + i)))
+                hits++;
+        }
+
+        // assert
+        assertThat(hits / 20000.0).isLessThan(0.02);
+        assertThat(filter.hashes()).isEqualTo(7);
+    }
+
+    @Test
+    void beyondCapacity_reportsSaturated() throws Exception {
+        var filter = new TokenBloomFilter(2, 0.01);
+        filter.add(sha256("a"));
+        filter.add(sha256("b"));
+        filter.add(sha256("c"));
+
+        assertThat(filter.isSaturated()).isTrue();
+    }
+}
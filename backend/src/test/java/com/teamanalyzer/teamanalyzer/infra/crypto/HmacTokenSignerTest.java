@@ -0,0 +1,90 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/infra/crypto/HmacTokenSignerTest.java
+package com.teamanalyzer.teamanalyzer.infra.crypto;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+class HmacTokenSignerTest {
+
+    static final String SECRET = "test-secret";
+
+    private static String reference(String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void matches_acceptsOwnSignature_rejectsTamperedOrMalformed() throws Exception {
+        // arrange
+        var signer = new HmacTokenSigner(SECRET);
+        String sig = signer.signUrlSafe("payload");
+
+        // act + assert
+        assertThat(sig).isEqualTo(reference("payload"));
+        assertThat(signer.matches("payload", sig)).isTrue();
+        assertThat(signer.matches("payload2", sig)).isFalse();
+        assertThat(signer.matches("payload", sig.substring(1))).isFalse();
+        assertThat(signer.matches("payload", "!!not-base64!!")).isFalse();
+        assertThat(signer.matches("payload", null)).isFalse();
+    }
+
+    @Test
+    void concurrentSigning_producesCorrectSignatures() throws Exception {
+        // arrange
+        var signer = new HmacTokenSigner(SECRET);
+        int threads = 8;
+        int perThread = 2000;
+        List<String> payloads = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            String p = "payload-" + i + "-" + "x".repeat(i);
+            payloads.add(p);
+            expected.add(reference(p));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // act
+        try {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                Callable<Integer> task = () -> {
+                    start.await();
+                    int wrong = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        int k = (i + offset) % payloads.size();
+                        String sig = signer.signUrlSafe(payloads.get(k));
+                        if (!sig.equals(expected.get(k)) || !signer.matches(payloads.get(k), expected.get(k)))
+                            wrong++;
+                    }
+                    return wrong;
+                };
+                results.add(pool.submit(task));
+            }
+            start.countDown();
+
+            // assert
+            for (Future<Integer> f : results)
+                assertThat(f.get()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
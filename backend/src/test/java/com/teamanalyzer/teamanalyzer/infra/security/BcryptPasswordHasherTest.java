@@ -0,0 +1,59 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/infra/security/BcryptPasswordHasherTest.java
+package com.teamanalyzer.teamanalyzer.infra.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class BcryptPasswordHasherTest {
+
+    private static BcryptPasswordHasher hasher(int strength) {
+        return new BcryptPasswordHasher(new BCryptPasswordEncoder(strength), new BcryptCost(strength));
+    }
+
+    @Test
+    void needsRehash_onlyWhenStoredCostIsLower() {
+        // arrange
+        String at4 = new BCryptPasswordEncoder(4).encode("pw");
+        String at5 = new BCryptPasswordEncoder(5).encode("pw");
+        var hasher = hasher(5);
+
+        // act + assert
+        assertThat(hasher.needsRehash(at4)).isTrue();
+        assertThat(hasher.needsRehash(at5)).isFalse();
+        assertThat(hasher(4).needsRehash(at5)).isFalse();
+        assertThat(hasher.needsRehash("{noop}pw")).isTrue();
+        assertThat(hasher.matches("pw", at4)).isTrue();
+    }
+
+    @Test
+    void costOf_readsStrengthFromHash() {
+        // act + assert
+        assertThat(BcryptCost.of(new BCryptPasswordEncoder(6).encode("pw"))).hasValue(6);
+        assertThat(BcryptCost.of("plain")).isEmpty();
+        assertThat(BcryptCost.of(null)).isEmpty();
+    }
+
+    @Test
+    void pick_highestStrengthWithinBudget() {
+        long ms = TimeUnit.MILLISECONDS.toNanos(1);
+
+        // act + assert: 10 → 15 ms, Stufe 12 ≈ 60 ms, 13 ≈ 120 ms
+        assertThat(BcryptCost.pick(15 * ms, 100 * ms, 10, 14)).isEqualTo(12);
+        assertThat(BcryptCost.pick(15 * ms, 1 * ms, 10, 14)).isEqualTo(10);
+        assertThat(BcryptCost.pick(1, Long.MAX_VALUE / 4, 10, 14)).isEqualTo(14);
+    }
+
+    @Test
+    void calibrate_staysWithinBounds() {
+        // act
+        var cost = BcryptCost.calibrate(Duration.ofMillis(1), 4, 6, 1);
+
+        // assert
+        assertThat(cost.strength()).isBetween(4, 6);
+    }
+}
@@ -0,0 +1,99 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/infra/security/BoundedPasswordEncoderTest.java
+package com.teamanalyzer.teamanalyzer.infra.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.teamanalyzer.teamanalyzer.service.OverloadedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    /** Blockiert jedes encode/matches, bis {@code release} fällt. */
+    static class BlockingEncoder implements PasswordEncoder {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence raw) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "h:" + raw;
+        }
+
+        @Override
+        public boolean matches(CharSequence raw, String encoded) {
+            return encode(raw).equals(encoded);
+        }
+    }
+
+    @Test
+    void delegatesOnPoolThread() {
+        // arrange
+        var delegate = new BlockingEncoder();
+        delegate.release.countDown();
+        var registry = new SimpleMeterRegistry();
+        try (var enc = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(2),
+                registry)) {
+
+            // act + assert
+            assertThat(enc.encode("pw")).isEqualTo("h:pw");
+            assertThat(enc.matches("pw", "h:pw")).isTrue();
+            assertThat(registry.get("password.hashing").tag("op", "matches").timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void fullQueue_failsFastWith503AndRetryAfter() throws Exception {
+        // arrange: 1 Thread belegt, 1 Platz in der Queue belegt
+        var delegate = new BlockingEncoder();
+        var registry = new SimpleMeterRegistry();
+        try (var enc = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3),
+                registry)) {
+            var running = CompletableFuture.supplyAsync(() -> enc.encode("a"));
+            delegate.started.await(5, TimeUnit.SECONDS);
+            var queued = CompletableFuture.supplyAsync(() -> enc.encode("b"));
+            for (int i = 0; i < 500 && registry.get("password.hashing.queued").gauge().value() < 1.0; i++)
+                Thread.sleep(10);
+
+            // act
+            var ex = catchThrowableOfType(OverloadedException.class, () -> enc.encode("c"));
+
+            // assert
+            assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+            assertThat(registry.get("password.hashing.rejected").counter().count()).isEqualTo(1.0);
+
+            delegate.release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("h:a");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("h:b");
+        }
+    }
+
+    @Test
+    void waitBeyondTimeout_is503() throws Exception {
+        // arrange
+        var delegate = new BlockingEncoder();
+        try (var enc = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(50), Duration.ofSeconds(2),
+                new SimpleMeterRegistry())) {
+
+            // act + assert
+            assertThatThrownBy(() -> enc.encode("a")).isInstanceOf(OverloadedException.class);
+            delegate.release.countDown();
+        }
+    }
+}
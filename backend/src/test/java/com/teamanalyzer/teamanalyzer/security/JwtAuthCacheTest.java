@@ -0,0 +1,82 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/security/JwtAuthCacheTest.java
+package com.teamanalyzer.teamanalyzer.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthCacheTest {
+
+    @Mock
+    AppClock clock;
+
+    Instant now = Instant.parse("2025-01-01T12:00:00Z");
+    JwtAuthCache cache;
+    AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(clock.now()).thenReturn(now);
+        cache = new JwtAuthCache(clock, new SimpleMeterRegistry(), true, 100);
+    }
+
+    private JwtAuthCache.Entry entry(Instant exp) {
+        loads.incrementAndGet();
+        return new JwtAuthCache.Entry(new AuthUser(UUID.randomUUID(), "a@x", List.of("USER")),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")), exp);
+    }
+
+    @Test
+    void sameToken_verifiedOnceUntilExp() throws Exception {
+        // act
+        var first = cache.get("tok", () -> entry(now.plusSeconds(600)));
+        var second = cache.get("tok", () -> entry(now.plusSeconds(600)));
+
+        // assert
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void expiredEntry_isVerifiedAgain() throws Exception {
+        // arrange
+        cache.get("tok", () -> entry(now.plusSeconds(60)));
+        when(clock.now()).thenReturn(now.plusSeconds(61));
+
+        // act
+        cache.get("tok", () -> entry(now.plusSeconds(600)));
+
+        // assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidToken_isNotCached() throws Exception {
+        // act
+        assertThatThrownBy(() -> cache.get("bad", () -> {
+            throw new BadCredentialsException("Invalid signature");
+        })).isInstanceOf(BadCredentialsException.class);
+
+        // assert
+        assertThat(cache.size()).isZero();
+        cache.get("bad", () -> entry(now.plusSeconds(60)));
+        assertThat(loads).hasValue(1);
+    }
+}
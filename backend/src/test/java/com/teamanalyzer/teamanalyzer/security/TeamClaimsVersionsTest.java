@@ -0,0 +1,100 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/security/TeamClaimsVersionsTest.java
+package com.teamanalyzer.teamanalyzer.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.teamanalyzer.teamanalyzer.repo.UserRepository;
+import com.teamanalyzer.teamanalyzer.service.TeamMembershipChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TeamClaimsVersionsTest {
+
+    @Mock
+    UserRepository userRepo;
+
+    TeamClaimsVersions versions;
+    UUID userId = UUID.randomUUID();
+    UUID teamId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        versions = new TeamClaimsVersions(userRepo, new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(1));
+    }
+
+    private static TeamClaims claims(int version) {
+        return new TeamClaims(version, Set.of(), Set.of());
+    }
+
+    @Test
+    void isStale_comparesWithCachedVersion() {
+        // arrange
+        when(userRepo.findClaimsVersionById(userId)).thenReturn(Optional.of(2));
+
+        // act + assert
+        assertThat(versions.isStale(userId, claims(2))).isFalse();
+        assertThat(versions.isStale(userId, claims(1))).isTrue();
+        verify(userRepo, times(1)).findClaimsVersionById(userId);
+    }
+
+    @Test
+    void membershipChange_bumpsVersionAndEvictsAfterCommit() {
+        // arrange
+        var event = TeamMembershipChangedEvent.of(teamId, userId);
+        when(userRepo.findClaimsVersionById(userId)).thenReturn(Optional.of(0), Optional.of(1));
+        assertThat(versions.isStale(userId, claims(0))).isFalse();
+
+        // act
+        versions.bump(event);
+        versions.evict(event);
+
+        // assert
+        verify(userRepo).bumpClaimsVersion(List.of(userId));
+        assertThat(versions.isStale(userId, claims(0))).isTrue();
+    }
+
+    @Test
+    void membershipChange_disabled_noUpdate() {
+        // arrange
+        var disabled = new TeamClaimsVersions(userRepo, new SimpleMeterRegistry(), false, 100, Duration.ofMinutes(1));
+
+        // act
+        disabled.bump(TeamMembershipChangedEvent.of(teamId, userId));
+
+        // assert
+        verify(userRepo, never()).bumpClaimsVersion(any());
+    }
+
+    @Test
+    void unknownUser_isStale() {
+        // arrange
+        when(userRepo.findClaimsVersionById(userId)).thenReturn(Optional.empty());
+
+        // act + assert
+        assertThat(versions.isStale(userId, claims(0))).isTrue();
+    }
+
+    @Test
+    void compactIds_roundTrip() {
+        // act
+        List<String> encoded = TeamClaims.encode(List.of(teamId));
+
+        // assert
+        assertThat(encoded.get(0)).hasSize(22);
+        assertThat(TeamClaims.decode(encoded)).containsExactly(teamId);
+    }
+}
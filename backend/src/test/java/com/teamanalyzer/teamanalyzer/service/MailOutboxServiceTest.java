@@ -0,0 +1,141 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/MailOutboxServiceTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.teamanalyzer.teamanalyzer.infra.mail.SpringMailSenderAdapter;
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.repo.MailOutboxRepository;
+import com.teamanalyzer.teamanalyzer.repo.MailOutboxRepository.OutboxMail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    MailOutboxRepository outboxRepo;
+    @Mock
+    AppClock clock;
+    @Mock
+    PlatformTransactionManager txManager;
+
+    Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.now()).thenReturn(now);
+    }
+
+    private MailOutboxService service(int smtpPort, boolean enabled, int maxAttempts) {
+        var sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(smtpPort);
+        sender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        return new MailOutboxService(outboxRepo, new SpringMailSenderAdapter(sender), clock, txManager,
+                new SimpleMeterRegistry(), enabled, 50, maxAttempts, Duration.ofMinutes(5), Duration.ofSeconds(30),
+                Duration.ofHours(1));
+    }
+
+    private static OutboxMail mail(String to, String subject, int attempts) {
+        return new OutboxMail(UUID.randomUUID(), to, subject, "body", attempts);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dispatch_sendsBatchOverSmtp_dedupsAndMarksSent() throws Exception {
+        // arrange
+        var a = mail("a@example.com", "Hallo", 1);
+        var aAgain = mail("a@example.com", "Hallo", 1);
+        var b = mail("b@example.com", "Hallo", 1);
+        when(outboxRepo.claimDue(eq(now), eq(now.plus(Duration.ofMinutes(5))), eq(50)))
+                .thenReturn(List.of(a, aAgain, b));
+
+        // act
+        int claimed = service(ServerSetupTest.SMTP.getPort(), true, 8).dispatch();
+
+        // assert
+        assertThat(claimed).isEqualTo(3);
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("a@example.com");
+        assertThat(received[1].getAllRecipients()[0].toString()).isEqualTo("b@example.com");
+
+        ArgumentCaptor<List<UUID>> sent = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepo).markSent(sent.capture(), eq(now));
+        assertThat(sent.getValue()).containsExactlyInAnyOrder(a.id(), aAgain.id(), b.id());
+        verify(outboxRepo, never()).markRetry(any(), any(), any());
+    }
+
+    @Test
+    void dispatch_smtpUnavailable_schedulesRetryWithBackoff() {
+        // arrange
+        var a = mail("a@example.com", "Hallo", 2);
+        when(outboxRepo.claimDue(any(), any(), anyInt())).thenReturn(List.of(a));
+        int closedPort = ServerSetupTest.SMTP.getPort() + 1;
+
+        // act
+        service(closedPort, true, 8).dispatch();
+
+        // assert
+        verify(outboxRepo).markRetry(eq(a.id()), eq(now.plus(Duration.ofSeconds(60))), anyString());
+        verify(outboxRepo, never()).markSent(any(), any());
+        verify(outboxRepo, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void dispatch_lastAttemptFails_marksFailed() {
+        // arrange
+        var a = mail("a@example.com", "Hallo", 3);
+        when(outboxRepo.claimDue(any(), any(), anyInt())).thenReturn(List.of(a));
+
+        // act
+        service(ServerSetupTest.SMTP.getPort() + 1, true, 3).dispatch();
+
+        // assert
+        verify(outboxRepo).markFailed(eq(a.id()), anyString());
+        verify(outboxRepo, never()).markRetry(any(), any(), any());
+    }
+
+    @Test
+    void backoff_doublesPerAttempt_andIsCapped() {
+        var svc = service(ServerSetupTest.SMTP.getPort(), true, 8);
+
+        assertThat(svc.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(svc.backoff(3)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(svc.backoff(30)).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void enqueue_mailDisabled_writesNothing() {
+        // act
+        boolean queued = service(ServerSetupTest.SMTP.getPort(), false, 8).enqueue("a@example.com", "s", "t");
+
+        // assert
+        assertThat(queued).isFalse();
+        verifyNoInteractions(outboxRepo);
+    }
+}
@@ -0,0 +1,94 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/QuestionSetCacheTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.teamanalyzer.teamanalyzer.domain.QuestionSet;
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestion;
+import com.teamanalyzer.teamanalyzer.repo.SurveyQuestionRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionSetCacheTest {
+
+    @Mock
+    SurveyQuestionRepository questionRepo;
+
+    QuestionSetCache cache;
+    UUID surveyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        cache = new QuestionSetCache(questionRepo, new SimpleMeterRegistry(), 100, Duration.ofHours(1));
+    }
+
+    private List<SurveyQuestion> questions() {
+        return IntStream.rangeClosed(1, 5).mapToObj(i -> {
+            var q = new SurveyQuestion();
+            q.setIdx((short) i);
+            q.setText("Q" + i);
+            return q;
+        }).toList();
+    }
+
+    @Test
+    void get_loadsOnce_andKeepsOrderIdsAndTexts() {
+        // arrange
+        var qs = questions();
+        when(questionRepo.findBySurveyIdOrderByIdx(surveyId)).thenReturn(qs);
+
+        // act
+        QuestionSet first = cache.get(surveyId);
+        QuestionSet second = cache.get(surveyId);
+
+        // assert
+        assertThat(second).isSameAs(first);
+        verify(questionRepo, times(1)).findBySurveyIdOrderByIdx(surveyId);
+        assertThat(first.size()).isEqualTo(5);
+        assertThat(first.id(2)).isEqualTo(qs.get(2).getId());
+        assertThat(first.idx(4)).isEqualTo((short) 5);
+        assertThat(first.text(0)).isEqualTo("Q1");
+        assertThat(first.ids()).containsExactly(qs.stream().map(SurveyQuestion::getId).toArray(UUID[]::new));
+    }
+
+    @Test
+    void get_unknownSurvey_isNotCached() {
+        // arrange
+        when(questionRepo.findBySurveyIdOrderByIdx(surveyId)).thenReturn(List.of(), questions());
+
+        // act
+        QuestionSet empty = cache.get(surveyId);
+        QuestionSet loaded = cache.get(surveyId);
+
+        // assert
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(loaded.size()).isEqualTo(5);
+    }
+
+    @Test
+    void evict_forcesReload() {
+        // arrange
+        when(questionRepo.findBySurveyIdOrderByIdx(surveyId)).thenReturn(questions());
+        cache.get(surveyId);
+
+        // act
+        cache.evict(surveyId);
+        cache.get(surveyId);
+
+        // assert
+        verify(questionRepo, times(2)).findBySurveyIdOrderByIdx(surveyId);
+    }
+}
@@ -0,0 +1,125 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/SingleFlightTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private double count(String result) {
+        return registry.get("singleflight.calls").tag("name", "t").tag("result", result).counter().count();
+    }
+
+    @Test
+    void concurrentCallers_shareOneComputation() throws Exception {
+        var sf = new SingleFlight<String, Integer>("t", Duration.ofSeconds(5), registry);
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        var computations = new AtomicInteger();
+
+        Future<Integer> leader = pool.submit(() -> sf.execute("k", () -> {
+            computations.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 42;
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        List<Future<Integer>> followers = new ArrayList<>();
+        for (int i = 0; i < 6; i++)
+            followers.add(pool.submit(() -> sf.execute("k", () -> {
+                computations.incrementAndGet();
+                return -1;
+            })));
+        // warten, bis alle Follower am Future hängen
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < 6 && System.nanoTime() < deadline)
+            Thread.sleep(5);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        for (var f : followers)
+            assertThat(f.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        assertThat(computations).hasValue(1);
+        assertThat(count("leader")).isEqualTo(1.0);
+        assertThat(count("coalesced")).isEqualTo(6.0);
+        assertThat(sf.inflightCount()).isZero();
+    }
+
+    @Test
+    void leaderFailure_propagatesToFollowers_andKeyIsFreedAgain() throws Exception {
+        var sf = new SingleFlight<String, Integer>("t", Duration.ofSeconds(5), registry);
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+
+        Future<Integer> leader = pool.submit(() -> sf.execute("k", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<Integer> follower = pool.submit(() -> sf.execute("k", () -> 0));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < 1 && System.nanoTime() < deadline)
+            Thread.sleep(5);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(sf.execute("k", () -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    void follower_timesOutWith503() throws Exception {
+        var sf = new SingleFlight<String, Integer>("t", Duration.ofMillis(50), registry);
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        pool.submit(() -> sf.execute("k", () -> {
+            started.countDown();
+            await(release);
+            return 1;
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        try {
+            assertThatThrownBy(() -> sf.execute("k", () -> 2))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            assertThat(count("timeout")).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
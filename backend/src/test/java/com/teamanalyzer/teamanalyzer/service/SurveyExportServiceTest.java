@@ -0,0 +1,118 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/SurveyExportServiceTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamanalyzer.teamanalyzer.domain.QuestionSet;
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestion;
+import com.teamanalyzer.teamanalyzer.repo.SurveyExportRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyResultSnapshotRepository;
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class SurveyExportServiceTest {
+
+    @Mock
+    SurveyService surveyService;
+    @Mock
+    QuestionSetCache questionSets;
+    @Mock
+    SurveyExportRepository exportRepo;
+    @Mock
+    SurveyResultSnapshotRepository snapshotRepo;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    SurveyExportService service;
+
+    UUID surveyId = UUID.randomUUID();
+    UUID r1 = UUID.randomUUID();
+    UUID r2 = UUID.randomUUID();
+    Instant t = Instant.parse("2026-01-02T03:04:05Z");
+
+    @BeforeEach
+    void setUp() {
+        service = new SurveyExportService(surveyService, questionSets, exportRepo, snapshotRepo, objectMapper);
+        // Cursor-Ersatz: zwei Abgaben, Array wird wie im Repo wiederverwendet
+        lenient().when(exportRepo.forEachResponse(eq(surveyId), eq(SurveyService.QUESTION_COUNT), any()))
+                .thenAnswer(inv -> {
+                    SurveyExportRepository.ResponseHandler h = inv.getArgument(2);
+                    short[] buf = { 1, 2, 3, 4, 5 };
+                    h.onResponse(r1, t, buf);
+                    buf = new short[] { 5, 4, 3, 2, 1 };
+                    h.onResponse(r2, t, buf);
+                    return 2L;
+                });
+    }
+
+    private String export(SurveyExportService.Format format) throws Exception {
+        var out = new ByteArrayOutputStream();
+        service.write(surveyId, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void csv_writesHeaderAndOneLinePerResponse() throws Exception {
+        String csv = export(SurveyExportService.Format.CSV);
+
+        assertThat(csv.split("\n")).containsExactly(
+                "response_id,submitted_at,q1,q2,q3,q4,q5",
+                r1 + ",2026-01-02T03:04:05Z,1,2,3,4,5",
+                r2 + ",2026-01-02T03:04:05Z,5,4,3,2,1");
+    }
+
+    @Test
+    void ndjson_writesOneJsonObjectPerLine() throws Exception {
+        String[] lines = export(SurveyExportService.Format.NDJSON).split("\n");
+
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("responseId").asText()).isEqualTo(r1.toString());
+        assertThat(first.get("answers")).hasSize(5);
+        assertThat(first.get("answers").get(4).asInt()).isEqualTo(5);
+    }
+
+    @Test
+    void json_keepsResultsDtoShape() throws Exception {
+        List<SurveyQuestion> qs = new ArrayList<>();
+        for (int i = 1; i <= SurveyService.QUESTION_COUNT; i++) {
+            var q = mock(SurveyQuestion.class);
+            when(q.getId()).thenReturn(UUID.randomUUID());
+            qs.add(q);
+        }
+        var questions = QuestionSet.of(qs);
+        when(questionSets.get(surveyId)).thenReturn(questions);
+        when(surveyService.getResults(surveyId, false))
+                .thenReturn(SurveyResultsDto.of(3, 3, 3, 3, 3, 2, List.of()));
+
+        JsonNode root = objectMapper.readTree(export(SurveyExportService.Format.JSON));
+
+        assertThat(root.get("n").asInt()).isEqualTo(2);
+        assertThat(root.get("a1").asDouble()).isEqualTo(3.0);
+        assertThat(root.get("items")).hasSize(2);
+        assertThat(root.get("items").get(1).get("answers").get(qs.get(0).getId().toString()).asInt()).isEqualTo(5);
+    }
+
+    @Test
+    void parse_rejectsUnknownFormat() {
+        assertThat(SurveyExportService.Format.parse(null)).isEqualTo(SurveyExportService.Format.JSON);
+        assertThat(SurveyExportService.Format.parse("csv")).isEqualTo(SurveyExportService.Format.CSV);
+        assertThatThrownBy(() -> SurveyExportService.Format.parse("xml")).isInstanceOf(ResponseStatusException.class);
+    }
+}
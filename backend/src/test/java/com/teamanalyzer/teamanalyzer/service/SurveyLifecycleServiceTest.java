@@ -0,0 +1,129 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/SurveyLifecycleServiceTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.repo.SurveyExportRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyResultSnapshotRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SurveyLifecycleServiceTest {
+
+    @Mock
+    SurveyRepository surveyRepo;
+    @Mock
+    SurveyTokenRepository tokenRepo;
+    @Mock
+    SurveyResultSnapshotRepository snapshotRepo;
+    @Mock
+    SurveyExportRepository exportRepo;
+    @Mock
+    ApplicationEventPublisher events;
+    @Mock
+    AppClock clock;
+    @Mock
+    PlatformTransactionManager txManager;
+
+    SurveyLifecycleService service;
+    UUID surveyId = UUID.randomUUID();
+    Instant now = Instant.parse("2026-01-01T10:00:00Z");
+
+    // InnoDB-Sperren im Kleinen: Token-Zeile (X), Survey-Zeile (S/X); Close gibt seine beim Commit frei
+    final ReentrantLock tokenRow = new ReentrantLock();
+    final ReentrantReadWriteLock surveyRow = new ReentrantReadWriteLock();
+    final List<Lock> heldByClose = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new SurveyLifecycleService(surveyRepo, tokenRepo, snapshotRepo, exportRepo, events, clock,
+                txManager);
+    }
+
+    private void acquire(Lock lock) {
+        try {
+            if (!lock.tryLock(5, TimeUnit.SECONDS))
+                throw new IllegalStateException("lock wait timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        heldByClose.add(lock);
+    }
+
+    @Test
+    void close_whileSubmissionHoldsTokenLock_noLockCycle() throws Exception {
+        // arrange: Close sperrt wie die DB – Widerrufen braucht die Token-Zeile, der CAS die Survey-Zeile
+        when(clock.now()).thenReturn(now);
+        when(tokenRepo.revokeAllActiveForSurvey(surveyId)).thenAnswer(inv -> {
+            acquire(tokenRow);
+            return 3;
+        });
+        when(surveyRepo.closeIfOpen(surveyId, now)).thenAnswer(inv -> {
+            acquire(surveyRow.writeLock());
+            return 1;
+        });
+        doAnswer(inv -> {
+            heldByClose.forEach(Lock::unlock);
+            heldByClose.clear();
+            return null;
+        }).when(txManager).commit(any());
+
+        // Abgabe: Token per CAS eingelöst (X), wartet dann zwischen Redeem und Insert auf den Close
+        var redeemed = new CountDownLatch(1);
+        CompletableFuture<Boolean> submission = CompletableFuture.supplyAsync(() -> {
+            tokenRow.lock();
+            try {
+                redeemed.countDown();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (!tokenRow.hasQueuedThreads() && System.nanoTime() < deadline)
+                    Thread.onSpinWait();
+                // Insert der Abgabe: FK-Prüfung + Stats-Sperre = S auf die Survey-Zeile
+                Lock shared = surveyRow.readLock();
+                if (!shared.tryLock(1, TimeUnit.SECONDS))
+                    return false;
+                shared.unlock();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                tokenRow.unlock();
+            }
+        });
+        assertThat(redeemed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // act
+        var result = service.close(surveyId);
+
+        // assert
+        assertThat(submission.get(5, TimeUnit.SECONDS)).as("submission got its survey S lock").isTrue();
+        assertThat(result.revokedTokens()).isEqualTo(3);
+        var order = inOrder(tokenRepo, surveyRepo);
+        order.verify(tokenRepo).revokeAllActiveForSurvey(surveyId);
+        order.verify(surveyRepo).closeIfOpen(surveyId, now);
+    }
+}
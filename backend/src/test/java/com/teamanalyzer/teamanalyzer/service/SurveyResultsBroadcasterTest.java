@@ -0,0 +1,111 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/SurveyResultsBroadcasterTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestionStats;
+
+class SurveyResultsBroadcasterTest {
+
+    SurveyStatsService statsService = mock(SurveyStatsService.class);
+    SurveyResultsBroadcaster broadcaster;
+    UUID surveyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        var st = SurveyQuestionStats.empty(surveyId, (short) 1);
+        st.add((short) 4);
+        when(statsService.find(surveyId)).thenReturn(List.of(st));
+        broadcaster = new SurveyResultsBroadcaster(statsService, Duration.ofMinutes(1), Duration.ofHours(1),
+                Duration.ofSeconds(5), 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subscribe_registersPerSurveyChannel() {
+        assertThat(broadcaster.subscribe(surveyId)).isNotNull();
+        broadcaster.subscribe(surveyId);
+
+        assertThat(broadcaster.subscriberCount(surveyId)).isEqualTo(2);
+        assertThat(broadcaster.subscriberCount(UUID.randomUUID())).isZero();
+    }
+
+    @Test
+    void commit_readsAggregateOncePerSurvey_notPerSubscriber() {
+        for (int i = 0; i < 5; i++)
+            broadcaster.subscribe(surveyId);
+        clearInvocations(statsService); // initialer Stand je Abonnent
+
+        broadcaster.onResultsChanged(new SurveyResultsChangedEvent(surveyId));
+
+        verify(statsService, timeout(2000).times(1)).find(surveyId);
+    }
+
+    @Test
+    void stalledWrite_isDropped_andFreesSenderThread() throws Exception {
+        // arrange: ein Sender-Thread; der erste Client hängt im Write, der zweite ist schnell
+        var stalledInterrupted = new CountDownLatch(1);
+        var fastReceived = new CountDownLatch(1);
+        SseEmitter stalled = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    stalledInterrupted.countDown();
+                    throw new InterruptedIOException("write aborted");
+                }
+            }
+        };
+        SseEmitter fast = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                fastReceived.countDown();
+            }
+        };
+        var emitters = new ArrayDeque<>(List.of(stalled, fast));
+        broadcaster.shutdown();
+        broadcaster = new SurveyResultsBroadcaster(statsService, Duration.ofMinutes(1), Duration.ofHours(1),
+                Duration.ofMillis(200), 1, 10) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitters.poll();
+            }
+        };
+
+        // act
+        broadcaster.subscribe(surveyId);
+        broadcaster.subscribe(surveyId);
+
+        // assert
+        assertThat(stalledInterrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fastReceived.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.subscriberCount(surveyId)).isEqualTo(1);
+    }
+
+    @Test
+    void commit_withoutSubscribers_doesNothing() {
+        broadcaster.onResultsChanged(new SurveyResultsChangedEvent(surveyId));
+
+        verifyNoInteractions(statsService);
+    }
+}
@@ -0,0 +1,84 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/SurveyResultsCacheTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SurveyResultsCacheTest {
+
+    SimpleMeterRegistry registry;
+    SurveyResultsCache cache;
+    UUID surveyId = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new SurveyResultsCache(registry, 1000, Duration.ofMinutes(5), Duration.ofSeconds(5));
+    }
+
+    private SurveyResultsDto load() {
+        loads.incrementAndGet();
+        return SurveyResultsDto.of(1, 2, 3, 4, 5, 1, List.of());
+    }
+
+    @Test
+    void get_cachesPerSurveyAndItemsFlag() {
+        cache.get(surveyId, false, "v1", this::load);
+        cache.get(surveyId, false, "v1", this::load);
+        cache.get(surveyId, true, "v1", this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(registry.get("cache.gets").tag("cache", "survey.results").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("cache", "survey.results").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void resultsChangedEvent_evictsBothVariants() {
+        cache.get(surveyId, false, "v1", this::load);
+        cache.get(surveyId, true, "v1", this::load);
+
+        cache.onResultsChanged(new SurveyResultsChangedEvent(surveyId));
+        cache.get(surveyId, false, "v1", this::load);
+        cache.get(surveyId, true, "v1", this::load);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void get_versionMismatch_reloadsAndReplacesEntry() {
+        // arrange: Eintrag zu v1, Evict nach Commit steht noch aus
+        cache.get(surveyId, false, "v1", this::load);
+
+        // act
+        cache.get(surveyId, false, "v2", this::load);
+        cache.get(surveyId, false, "v2", this::load);
+
+        // assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void otherSurveysStayCached() {
+        UUID other = UUID.randomUUID();
+        cache.get(other, false, "v1", this::load);
+
+        cache.evict(surveyId);
+        cache.get(other, false, "v1", this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+}
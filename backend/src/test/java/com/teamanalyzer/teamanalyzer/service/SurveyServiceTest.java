@@ -0,0 +1,362 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/SurveyServiceTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import com.teamanalyzer.teamanalyzer.domain.AnswerStorage;
+import com.teamanalyzer.teamanalyzer.domain.LikertHistogram;
+import com.teamanalyzer.teamanalyzer.domain.QuestionSet;
+import com.teamanalyzer.teamanalyzer.domain.Survey;
+import com.teamanalyzer.teamanalyzer.domain.SurveyAnalytics;
+import com.teamanalyzer.teamanalyzer.domain.SurveyAnswer;
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestion;
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestionStats;
+import com.teamanalyzer.teamanalyzer.domain.SurveyResponse;
+import com.teamanalyzer.teamanalyzer.domain.SurveyResultSnapshot;
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.port.DigestService;
+import com.teamanalyzer.teamanalyzer.repo.QuestionAggregateView;
+import com.teamanalyzer.teamanalyzer.repo.QuestionValueCountView;
+import com.teamanalyzer.teamanalyzer.repo.ResultsVersionView;
+import com.teamanalyzer.teamanalyzer.repo.SurveyExportRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyQuestionRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyResponseRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyResultSnapshotRepository;
+import com.teamanalyzer.teamanalyzer.repo.TeamMemberRepository;
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDetailDto;
+import com.teamanalyzer.teamanalyzer.web.dto.SurveyResultsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.server.ResponseStatusException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SurveyServiceTest {
+
+    @Mock
+    SurveyRepository surveyRepo;
+    @Mock
+    SurveyQuestionRepository questionRepo;
+    @Mock
+    SurveyResponseRepository responseRepo;
+    @Mock
+    TeamMemberRepository tmRepo;
+    @Mock
+    TokenService tokenService;
+    @Mock
+    DigestService digest;
+    @Mock
+    SurveyStatsService statsService;
+    @Mock
+    ApplicationEventPublisher events;
+    @Mock
+    SurveyExportRepository exportRepo;
+    @Mock
+    SurveyResultSnapshotRepository snapshotRepo;
+    @Mock
+    QuestionSetCache questionSets;
+    @Mock
+    AppClock clock;
+
+    @InjectMocks
+    SurveyService service;
+
+    UUID surveyId;
+    List<SurveyQuestion> questions;
+    List<SurveyResponse> responses;
+
+    // Projektion wie sie das GROUP BY liefern würde
+    record AggRow(short getIdx, long getAnswers, long getTotal) implements QuestionAggregateView {
+    }
+
+    @BeforeEach
+    void setUp() {
+        surveyId = UUID.randomUUID();
+        questions = new ArrayList<>();
+        for (int i = 1; i <= SurveyService.QUESTION_COUNT; i++) {
+            var q = new SurveyQuestion();
+            q.setIdx((short) i);
+            q.setText("Q" + i);
+            questions.add(q);
+        }
+
+        // deterministische Zufallsantworten
+        Random rnd = new Random(42);
+        responses = new ArrayList<>();
+        for (int r = 0; r < 257; r++) {
+            var resp = SurveyResponse.create(Survey.ref(surveyId), null);
+            for (int i = 0; i < SurveyService.QUESTION_COUNT; i++) {
+                var a = new SurveyAnswer();
+                a.setQuestion(questions.get(i));
+                a.setValue((short) (1 + rnd.nextInt(5)));
+                a.setAnswerOrder(i);
+                resp.addAnswer(a);
+            }
+            responses.add(resp);
+        }
+    }
+
+    /** GROUP BY question.idx – in Java nachgebildet über dieselben Antworten. */
+    private List<QuestionAggregateView> groupByIdx(List<SurveyResponse> all) {
+        Map<Short, List<SurveyAnswer>> byIdx = all.stream()
+                .flatMap(r -> r.getAnswers().stream())
+                .collect(Collectors.groupingBy(a -> a.getQuestion().getIdx(), TreeMap::new, Collectors.toList()));
+        List<QuestionAggregateView> rows = new ArrayList<>();
+        byIdx.forEach((idx, answers) -> rows.add(new AggRow(idx, answers.size(),
+                answers.stream().mapToLong(SurveyAnswer::getValue).sum())));
+        return rows;
+    }
+
+    @Test
+    void getResults_aggregates_matchSurveyAnalytics() {
+        // arrange
+        when(responseRepo.aggregateBySurveyId(surveyId)).thenReturn(groupByIdx(responses));
+        when(responseRepo.countBySurvey_Id(surveyId)).thenReturn((long) responses.size());
+
+        // act
+        SurveyResultsDto dto = service.getResults(surveyId, false);
+
+        // assert
+        double[] expected = SurveyAnalytics.averages(responses);
+        assertThat(new double[] { dto.a1(), dto.a2(), dto.a3(), dto.a4(), dto.a5() }).containsExactly(expected);
+        assertThat(dto.n()).isEqualTo(responses.size());
+        assertThat(dto.items()).isEmpty();
+        verify(responseRepo, never()).findBySurveyId(any());
+    }
+
+    @Test
+    void getResults_fromStatsReadModel_matchesSurveyAnalytics() {
+        // arrange: Read-Model so fortschreiben, wie es submitAnonymous tut
+        List<SurveyQuestionStats> stats = new ArrayList<>();
+        for (int i = 1; i <= SurveyService.QUESTION_COUNT; i++) {
+            stats.add(SurveyQuestionStats.empty(surveyId, (short) i));
+        }
+        for (var r : responses) {
+            for (var a : r.getAnswers()) {
+                stats.get(a.getQuestion().getIdx() - 1).add(a.getValue());
+            }
+        }
+        when(statsService.find(surveyId)).thenReturn(stats);
+
+        // act
+        SurveyResultsDto dto = service.getResults(surveyId, false);
+
+        // assert
+        double[] expected = SurveyAnalytics.averages(responses);
+        assertThat(new double[] { dto.a1(), dto.a2(), dto.a3(), dto.a4(), dto.a5() }).containsExactly(expected);
+        assertThat(dto.n()).isEqualTo(responses.size());
+        assertThat(stats.get(0).histogram()).hasSize(5);
+        assertThat(Arrays.stream(stats.get(0).histogram()).sum()).isEqualTo(responses.size());
+        verify(responseRepo, never()).aggregateBySurveyId(any());
+        verify(responseRepo, never()).countBySurvey_Id(any());
+    }
+
+    @Test
+    void getResults_withItems_loadsResponses() {
+        // arrange
+        when(responseRepo.aggregateBySurveyId(surveyId)).thenReturn(groupByIdx(responses));
+        when(responseRepo.countBySurvey_Id(surveyId)).thenReturn((long) responses.size());
+        when(responseRepo.findBySurveyId(surveyId)).thenReturn(responses);
+
+        // act
+        SurveyResultsDto dto = service.getResults(surveyId);
+
+        // assert
+        assertThat(dto.items()).hasSize(responses.size());
+        assertThat(dto.items().get(0).answers()).hasSize(SurveyService.QUESTION_COUNT);
+    }
+
+    @Test
+    void getResults_packedStorage_aggregatesFromPackedColumn() {
+        // arrange
+        ReflectionTestUtils.setField(service, "answerStorage", AnswerStorage.PACKED);
+        when(responseRepo.aggregatePackedBySurveyId(surveyId)).thenReturn(groupByIdx(responses));
+        when(responseRepo.countBySurvey_Id(surveyId)).thenReturn((long) responses.size());
+
+        // act
+        SurveyResultsDto dto = service.getResults(surveyId, false);
+
+        // assert
+        double[] expected = SurveyAnalytics.averages(responses);
+        assertThat(new double[] { dto.a1(), dto.a2(), dto.a3(), dto.a4(), dto.a5() }).containsExactly(expected);
+        verify(responseRepo, never()).aggregateBySurveyId(any());
+    }
+
+    @Test
+    void getResults_withoutResponses_returnsZeros() {
+        // arrange
+        when(responseRepo.aggregateBySurveyId(surveyId)).thenReturn(List.of());
+        when(responseRepo.countBySurvey_Id(surveyId)).thenReturn(0L);
+
+        // act
+        SurveyResultsDto dto = service.getResults(surveyId, false);
+
+        // assert
+        assertThat(dto.n()).isZero();
+        assertThat(new double[] { dto.a1(), dto.a2(), dto.a3(), dto.a4(), dto.a5() })
+                .containsExactly(SurveyAnalytics.averages(List.of()));
+    }
+
+    @Test
+    void getResultsDetail_histogramsMatchEntityPath() {
+        // arrange: Fallback-GROUP BY (idx, value), in Java nachgebildet
+        Map<List<Short>, Long> byIdxValue = responses.stream()
+                .flatMap(r -> r.getAnswers().stream())
+                .collect(Collectors.groupingBy(a -> List.of(a.getQuestion().getIdx(), a.getValue()),
+                        Collectors.counting()));
+        List<QuestionValueCountView> rows = new ArrayList<>();
+        byIdxValue.forEach((k, c) -> rows.add(new ValueRow(k.get(0), k.get(1), c)));
+        when(responseRepo.countByIdxAndValue(surveyId)).thenReturn(rows);
+
+        // act
+        SurveyResultsDetailDto dto = service.getResultsDetail(surveyId);
+
+        // assert
+        LikertHistogram[] expected = SurveyAnalytics.histograms(responses);
+        assertThat(dto.n()).isEqualTo(responses.size());
+        assertThat(dto.questions()).hasSize(SurveyService.QUESTION_COUNT);
+        for (int i = 0; i < SurveyService.QUESTION_COUNT; i++) {
+            assertThat(dto.questions().get(i).counts()).containsExactly(expected[i].counts());
+            assertThat(dto.questions().get(i).median()).isEqualTo(expected[i].summarize().median());
+        }
+        assertThat(dto.a1()).isCloseTo(SurveyAnalytics.averages(responses)[0], within(1e-9));
+    }
+
+    record ValueRow(short getIdx, short getValue, long getAnswers) implements QuestionValueCountView {
+    }
+
+    @Test
+    void resultsETag_changesWithNewResponse_andVariant() {
+        // arrange
+        var t = Instant.parse("2026-01-01T10:00:00Z");
+        when(responseRepo.findResultsVersion(surveyId))
+                .thenReturn(new VersionRow(3, t), new VersionRow(3, t), new VersionRow(4, t.plusSeconds(1)));
+
+        // act
+        String first = service.resultsETag(surveyId, "a");
+        String same = service.resultsETag(surveyId, "a");
+        String afterSubmit = service.resultsETag(surveyId, "a");
+
+        // assert
+        assertThat(first).isEqualTo(same).startsWith("\"").endsWith("\"");
+        assertThat(afterSubmit).isNotEqualTo(first);
+        assertThat(first).isNotEqualTo(first.replace("-a-", "-i-"));
+    }
+
+    record VersionRow(long getResponses, Instant getLatest) implements ResultsVersionView {
+    }
+
+    @Test
+    void getResultsSince_passesCursor_andReturnsNextCursorFromLastRow() {
+        // arrange
+        var t0 = Instant.parse("2026-01-01T10:00:00Z");
+        UUID prev = UUID.randomUUID();
+        UUID r1 = UUID.randomUUID();
+        UUID r2 = UUID.randomUUID();
+        var now = t0.plusSeconds(60);
+        when(clock.now()).thenReturn(now);
+        when(questionSets.get(surveyId)).thenReturn(QuestionSet.EMPTY);
+        when(exportRepo.forEachResponseAfter(eq(surveyId), eq(t0), eq(prev), eq(now.minusSeconds(5)), eq(2),
+                eq(SurveyService.QUESTION_COUNT), any()))
+                .thenAnswer(inv -> {
+                    SurveyExportRepository.ResponseHandler h = inv.getArgument(6);
+                    h.onResponse(r1, t0, new short[] { 1, 2, 3, 4, 5 });
+                    h.onResponse(r2, t0.plusSeconds(1), new short[] { 1, 2, 3, 4, 5 });
+                    return 2L;
+                });
+
+        // act
+        var page = service.getResultsSince(surveyId, new ResultsCursor(t0, prev).encode(), 2);
+
+        // assert
+        assertThat(page.items()).extracting(i -> i.responseId()).containsExactly(r1, r2);
+        assertThat(ResultsCursor.decode(page.nextCursor())).isEqualTo(new ResultsCursor(t0.plusSeconds(1), r2));
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    void getResultsSince_lowerIdCommittedLateInSameSecond_isNotSkipped() {
+        // arrange: beide Abgaben mit created_at = t0 (Sekunde), die kleinere ID committet später
+        var t0 = Instant.parse("2026-01-01T10:00:00Z");
+        UUID low = new UUID(0, 1);
+        UUID high = new UUID(0, 2);
+        List<ResultsCursor> committed = new ArrayList<>();
+        when(questionSets.get(surveyId)).thenReturn(QuestionSet.EMPTY);
+        // Keyset-Prädikat wie SQL_AFTER/SQL_FIRST_PAGE über die bereits committeten Zeilen
+        when(exportRepo.forEachResponseAfter(eq(surveyId), any(), any(), any(), anyInt(), anyInt(), any()))
+                .thenAnswer(inv -> {
+                    Instant afterTs = inv.getArgument(1);
+                    UUID afterId = inv.getArgument(2);
+                    Instant before = inv.getArgument(3);
+                    SurveyExportRepository.ResponseHandler h = inv.getArgument(6);
+                    var rows = committed.stream()
+                            .filter(r -> r.createdAt().isBefore(before))
+                            .filter(r -> afterTs == null || new ResultsCursor(afterTs, afterId).isBefore(r.createdAt(), r.id()))
+                            .sorted((a, b) -> a.isBefore(b.createdAt(), b.id()) ? -1 : 1)
+                            .toList();
+                    for (var r : rows)
+                        h.onResponse(r.id(), r.createdAt(), new short[] { 1, 2, 3, 4, 5 });
+                    return (long) rows.size();
+                });
+        List<UUID> seen = new ArrayList<>();
+
+        // act: Poll, während nur die größere ID sichtbar ist
+        committed.add(new ResultsCursor(t0, high));
+        when(clock.now()).thenReturn(t0.plusMillis(500));
+        var first = service.getResultsSince(surveyId, null, 10);
+        first.items().forEach(i -> seen.add(i.responseId()));
+
+        committed.add(new ResultsCursor(t0, low));
+        when(clock.now()).thenReturn(t0.plusSeconds(10));
+        var second = service.getResultsSince(surveyId, first.nextCursor(), 10);
+        second.items().forEach(i -> seen.add(i.responseId()));
+
+        // assert
+        assertThat(first.items()).isEmpty();
+        assertThat(seen).containsExactly(low, high);
+    }
+
+    @Test
+    void resultsCursor_rejectsGarbage() {
+        assertThat(ResultsCursor.decode("")).isNull();
+        assertThatThrownBy(() -> ResultsCursor.decode("not-a-cursor"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void getResults_closedSurvey_servedFromSnapshotOnly() {
+        // arrange
+        var b = SurveyResultSnapshot.builder(surveyId, SurveyService.QUESTION_COUNT);
+        var t = Instant.parse("2026-01-01T10:00:00Z");
+        for (var r : responses) {
+            short[] values = new short[SurveyService.QUESTION_COUNT];
+            r.getAnswers().forEach(a -> values[a.getQuestion().getIdx() - 1] = a.getValue());
+            b.add(r.getId(), t, values);
+        }
+        when(snapshotRepo.findById(surveyId)).thenReturn(Optional.of(b.build()));
+        when(questionSets.get(surveyId)).thenReturn(QuestionSet.of(questions));
+
+        // act
+        SurveyResultsDto dto = service.getResults(surveyId, true);
+
+        // assert
+        double[] expected = SurveyAnalytics.averages(responses);
+        assertThat(new double[] { dto.a1(), dto.a2(), dto.a3(), dto.a4(), dto.a5() })
+                .usingComparatorWithPrecision(1e-9).containsExactly(expected);
+        assertThat(dto.n()).isEqualTo(responses.size());
+        assertThat(dto.items()).hasSize(responses.size());
+        verifyNoInteractions(statsService, questionRepo);
+        verify(responseRepo, never()).aggregateBySurveyId(any());
+        verify(responseRepo, never()).findBySurveyId(any());
+    }
+}
@@ -0,0 +1,64 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/SurveyStatsServiceTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.teamanalyzer.teamanalyzer.repo.SurveyQuestionStatsRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SurveyStatsServiceTest {
+
+    @Mock
+    SurveyQuestionStatsRepository statsRepo;
+    @Mock
+    SurveyRepository surveyRepo;
+    @Mock
+    ApplicationEventPublisher events;
+
+    @InjectMocks
+    SurveyStatsService service;
+
+    UUID surveyId = UUID.randomUUID();
+
+    @Test
+    void record_takesSharedSurveyLockBeforeIncrementing() {
+        // arrange
+        when(statsRepo.increment(eq(surveyId), anyShort(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong())).thenReturn(1);
+
+        // act
+        service.record(surveyId, new short[] { 1, 2, 3, 4, 5 });
+
+        // assert
+        var order = inOrder(statsRepo);
+        order.verify(statsRepo).lockSurveyShared(surveyId);
+        order.verify(statsRepo, times(5)).increment(eq(surveyId), anyShort(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void recordAll_takesSharedSurveyLockBeforeIncrementing() {
+        // arrange
+        long[][] histograms = { { 1, 0, 0, 0, 0 } };
+        when(statsRepo.increment(surveyId, (short) 1, 1, 1, 1, 0, 0, 0, 0)).thenReturn(1);
+
+        // act
+        service.recordAll(surveyId, histograms);
+
+        // assert
+        var order = inOrder(statsRepo);
+        order.verify(statsRepo).lockSurveyShared(surveyId);
+        order.verify(statsRepo).increment(surveyId, (short) 1, 1, 1, 1, 0, 0, 0, 0);
+    }
+}
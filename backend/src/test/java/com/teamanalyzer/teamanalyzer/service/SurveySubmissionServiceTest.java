@@ -0,0 +1,234 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/SurveySubmissionServiceTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.teamanalyzer.teamanalyzer.domain.QuestionSet;
+import com.teamanalyzer.teamanalyzer.domain.SurveyQuestion;
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.port.DigestService;
+import com.teamanalyzer.teamanalyzer.repo.SubmissionBatchRepository;
+import com.teamanalyzer.teamanalyzer.repo.SubmissionBatchRepository.NewResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SurveySubmissionServiceTest {
+
+    @Mock
+    SurveyService surveyService;
+    @Mock
+    TokenService tokenService;
+    @Mock
+    QuestionSetCache questionSets;
+    @Mock
+    SubmissionBatchRepository batchRepo;
+    @Mock
+    SurveyStatsService statsService;
+    @Mock
+    ApplicationEventPublisher events;
+    @Mock
+    DigestService digest;
+    @Mock
+    SurveyTokenFilter tokenFilter;
+    @Mock
+    AppClock clock;
+    @Mock
+    PlatformTransactionManager txManager;
+
+    SimpleMeterRegistry registry;
+    UUID surveyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    private SurveySubmissionService service(String mode, int capacity) {
+        return new SurveySubmissionService(surveyService, tokenService, questionSets, batchRepo, statsService,
+                events, digest, tokenFilter, clock, txManager, registry, mode, capacity, 200, Duration.ofMillis(5),
+                Duration.ofSeconds(1));
+    }
+
+    private UUID acceptToken(String plain) {
+        UUID tokenId = UUID.randomUUID();
+        byte[] hash = plain.getBytes();
+        when(digest.sha256(plain)).thenReturn(hash);
+        when(tokenService.findRedeemableTokenId(surveyId, hash)).thenReturn(tokenId);
+        return tokenId;
+    }
+
+    private void stubQuestions() {
+        List<SurveyQuestion> qs = IntStream.rangeClosed(1, SurveyService.QUESTION_COUNT).mapToObj(i -> {
+            var q = new SurveyQuestion();
+            q.setIdx((short) i);
+            return q;
+        }).toList();
+        when(questionSets.get(surveyId)).thenReturn(QuestionSet.of(qs));
+        when(clock.now()).thenReturn(Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void syncMode_delegatesToSurveyService() {
+        // arrange
+        var svc = service("sync", 10);
+        short[] answers = { 1, 2, 3, 4, 5 };
+
+        // act
+        svc.submit(surveyId, "tok", answers);
+
+        // assert
+        verify(surveyService).submitAnonymousByPlainToken(surveyId, "tok", answers);
+        assertThat(svc.queued()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchedMode_writesQueuedSubmissionsInOneBatch() {
+        // arrange
+        var svc = service("batched", 10);
+        UUID t1 = acceptToken("a");
+        UUID t2 = acceptToken("b");
+        stubQuestions();
+        when(batchRepo.redeemTokens(eq(List.of(t1, t2)), any())).thenReturn(new int[] { 1, 1 });
+
+        // act
+        svc.submit(surveyId, "a", new short[] { 1, 2, 3, 4, 5 });
+        svc.submit(surveyId, "b", new short[] { 5, 2, 3, 4, 5 });
+        int written = svc.flush();
+
+        // assert
+        assertThat(written).isEqualTo(2);
+        ArgumentCaptor<List<NewResponse>> rows = ArgumentCaptor.forClass(List.class);
+        verify(batchRepo).insertResponses(rows.capture());
+        assertThat(rows.getValue()).extracting(NewResponse::tokenId).containsExactly(t1, t2);
+
+        ArgumentCaptor<long[][]> hist = ArgumentCaptor.forClass(long[][].class);
+        verify(statsService).recordAll(eq(surveyId), hist.capture());
+        assertThat(hist.getValue()[0]).containsExactly(1, 0, 0, 0, 1);
+        assertThat(hist.getValue()[4]).containsExactly(0, 0, 0, 0, 2);
+        verify(events, times(1)).publishEvent(new SurveyResultsChangedEvent(surveyId));
+        assertThat(registry.get("submissions").tag("result", "written").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchedMode_dropsSubmissionWhenTokenCasIsLost() {
+        // arrange
+        var svc = service("batched", 10);
+        UUID t1 = acceptToken("a");
+        UUID t2 = acceptToken("b");
+        stubQuestions();
+        when(batchRepo.redeemTokens(eq(List.of(t1, t2)), any())).thenReturn(new int[] { 0, 1 });
+
+        // act
+        svc.submit(surveyId, "a", new short[] { 1, 1, 1, 1, 1 });
+        svc.submit(surveyId, "b", new short[] { 2, 2, 2, 2, 2 });
+        svc.flush();
+
+        // assert
+        ArgumentCaptor<List<NewResponse>> rows = ArgumentCaptor.forClass(List.class);
+        verify(batchRepo).insertResponses(rows.capture());
+        assertThat(rows.getValue()).extracting(NewResponse::tokenId).containsExactly(t2);
+        assertThat(registry.get("submissions").tag("result", "dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void batchedMode_sameTokenTwiceInBatch_redeemedOnce() {
+        // arrange
+        var svc = service("batched", 10);
+        UUID t1 = acceptToken("a");
+        stubQuestions();
+        when(batchRepo.redeemTokens(eq(List.of(t1)), any())).thenReturn(new int[] { 1 });
+
+        // act
+        svc.submit(surveyId, "a", new short[] { 1, 1, 1, 1, 1 });
+        svc.submit(surveyId, "a", new short[] { 2, 2, 2, 2, 2 });
+        int written = svc.flush();
+
+        // assert
+        assertThat(written).isEqualTo(1);
+        verify(batchRepo).redeemTokens(eq(List.of(t1)), any());
+    }
+
+    @Test
+    void batchedMode_fullQueue_rejectsWith503() {
+        // arrange
+        var svc = service("batched", 1);
+        acceptToken("a");
+        acceptToken("b");
+        svc.submit(surveyId, "a", new short[] { 1, 1, 1, 1, 1 });
+
+        // act + assert
+        assertThatThrownBy(() -> svc.submit(surveyId, "b", new short[] { 1, 1, 1, 1, 1 }))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(svc.queued()).isEqualTo(1);
+    }
+
+    @Test
+    void filterRejectsToken_404WithoutTokenLookup() {
+        // arrange
+        var svc = service("batched", 10);
+        byte[] hash = "x".getBytes();
+        when(digest.sha256("x")).thenReturn(hash);
+        when(tokenFilter.rejects(surveyId, hash)).thenReturn(true);
+
+        // act + assert
+        assertThatThrownBy(() -> svc.submit(surveyId, "x", new short[] { 1, 1, 1, 1, 1 }))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        verifyNoInteractions(tokenService);
+        assertThat(svc.queued()).isZero();
+    }
+
+    @Test
+    void syncMode_filterEnabled_submitsByHashAfterScreening() {
+        // arrange
+        var svc = service("sync", 10);
+        byte[] hash = "tok".getBytes();
+        short[] answers = { 1, 2, 3, 4, 5 };
+        when(tokenFilter.isEnabled()).thenReturn(true);
+        when(digest.sha256("tok")).thenReturn(hash);
+
+        // act
+        svc.submit(surveyId, "tok", answers);
+
+        // assert
+        verify(tokenFilter).rejects(surveyId, hash);
+        verify(surveyService).submitAnonymous(surveyId, hash, answers);
+    }
+
+    @Test
+    void batchedMode_invalidAnswers_rejectedBeforeQueueing() {
+        // arrange
+        var svc = service("batched", 10);
+
+        // act + assert
+        assertThatThrownBy(() -> svc.submit(surveyId, "a", new short[] { 0, 1, 1, 1, 1 }))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(svc.queued()).isZero();
+        verifyNoInteractions(tokenService);
+    }
+}
@@ -0,0 +1,80 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/SurveyTokenFilterTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SurveyTokenFilterTest {
+
+    @Mock
+    SurveyTokenRepository tokenRepo;
+    @Mock
+    SurveyRepository surveyRepo;
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    UUID surveyId = UUID.randomUUID();
+
+    private SurveyTokenFilter filter(boolean enabled) {
+        return new SurveyTokenFilter(tokenRepo, surveyRepo, registry, enabled, 0.01, 64, 100);
+    }
+
+    private static byte[] hash(int seed) {
+        byte[] h = new byte[32];
+        Arrays.fill(h, (byte) seed);
+        h[0] = (byte) (seed * 31);
+        h[9] = (byte) (seed * 17);
+        return h;
+    }
+
+    @Test
+    void issuedToken_passes_unknownToken_rejected() {
+        // arrange
+        when(tokenRepo.countBySurvey_Id(surveyId)).thenReturn(1L);
+        when(tokenRepo.findHashesBySurveyId(surveyId)).thenReturn(List.of(hash(1)));
+        var f = filter(true);
+
+        // act + assert
+        assertThat(f.rejects(surveyId, hash(1))).isFalse();
+        assertThat(f.rejects(surveyId, hash(2))).isTrue();
+        assertThat(registry.get("survey.token.filter").tag("result", "rejected").counter().count()).isEqualTo(1.0);
+        verify(tokenRepo, times(1)).findHashesBySurveyId(surveyId);
+    }
+
+    @Test
+    void tokensIssuedAfterLoad_areAddedOnCommit() {
+        // arrange
+        when(tokenRepo.countBySurvey_Id(surveyId)).thenReturn(0L);
+        when(tokenRepo.findHashesBySurveyId(surveyId)).thenReturn(List.of());
+        var f = filter(true);
+        assertThat(f.rejects(surveyId, hash(3))).isTrue();
+
+        // act
+        f.onTokensIssued(new SurveyTokensIssuedEvent(surveyId, List.of(hash(3))));
+
+        // assert
+        assertThat(f.rejects(surveyId, hash(3))).isFalse();
+    }
+
+    @Test
+    void disabled_neverRejects_andSkipsDb() {
+        var f = filter(false);
+
+        assertThat(f.rejects(surveyId, hash(1))).isFalse();
+        verifyNoInteractions(tokenRepo);
+    }
+}
@@ -0,0 +1,132 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/TeamAccessCacheTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.teamanalyzer.teamanalyzer.repo.MembershipView;
+import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
+import com.teamanalyzer.teamanalyzer.repo.TeamMemberRepository;
+import com.teamanalyzer.teamanalyzer.security.AuthUser;
+import com.teamanalyzer.teamanalyzer.security.TeamClaims;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TeamAccessCacheTest {
+
+    @Mock
+    TeamMemberRepository tmRepo;
+    @Mock
+    SurveyRepository surveyRepo;
+
+    TeamAccessCache cache;
+    UUID userId = UUID.randomUUID();
+    UUID teamA = UUID.randomUUID();
+    UUID teamB = UUID.randomUUID();
+    UUID surveyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        cache = new TeamAccessCache(tmRepo, surveyRepo, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    }
+
+    private static MembershipView membership(UUID teamId, boolean leader) {
+        return new MembershipView() {
+            @Override
+            public UUID getTeamId() {
+                return teamId;
+            }
+
+            @Override
+            public boolean isLeader() {
+                return leader;
+            }
+        };
+    }
+
+    @Test
+    void checks_loadMembershipsOncePerUser() {
+        // arrange
+        when(tmRepo.findMembershipsByUserId(userId))
+                .thenReturn(List.of(membership(teamA, true), membership(teamB, false)));
+        when(surveyRepo.findTeamIdById(surveyId)).thenReturn(Optional.of(teamA));
+
+        // act + assert
+        assertThat(cache.isLeader(userId, teamA)).isTrue();
+        assertThat(cache.isLeader(userId, teamB)).isFalse();
+        assertThat(cache.isMember(userId, teamB)).isTrue();
+        assertThat(cache.isLeaderAnywhere(userId)).isTrue();
+        assertThat(cache.isLeaderOfSurvey(userId, surveyId)).isTrue();
+        assertThat(cache.isLeaderOfSurvey(userId, surveyId)).isTrue();
+        verify(tmRepo, times(1)).findMembershipsByUserId(userId);
+        verify(surveyRepo, times(1)).findTeamIdById(surveyId);
+    }
+
+    @Test
+    void membershipChange_evictsAffectedUser() {
+        // arrange
+        when(tmRepo.findMembershipsByUserId(userId))
+                .thenReturn(List.of(membership(teamA, false)))
+                .thenReturn(List.of(membership(teamA, true)));
+        assertThat(cache.isLeader(userId, teamA)).isFalse();
+
+        // act
+        cache.onMembershipChanged(TeamMembershipChangedEvent.of(teamA, userId));
+
+        // assert
+        assertThat(cache.isLeader(userId, teamA)).isTrue();
+        verify(tmRepo, times(2)).findMembershipsByUserId(userId);
+    }
+
+    @Test
+    void unknownSurvey_notCachedAndDenied() {
+        // arrange
+        when(surveyRepo.findTeamIdById(surveyId)).thenReturn(Optional.empty());
+
+        // act + assert
+        assertThat(cache.teamOfSurvey(surveyId)).isEmpty();
+        assertThat(cache.isLeaderOfSurvey(userId, surveyId)).isFalse();
+        verify(surveyRepo, times(2)).findTeamIdById(surveyId);
+        verifyNoInteractions(tmRepo);
+    }
+
+    @Test
+    void teamDeleted_dropsSurveyMapping() {
+        // arrange
+        when(surveyRepo.findTeamIdById(surveyId)).thenReturn(Optional.of(teamA), Optional.empty());
+        assertThat(cache.teamOfSurvey(surveyId)).contains(teamA);
+
+        // act
+        cache.onMembershipChanged(new TeamMembershipChangedEvent(teamA, List.of(userId), true));
+
+        // assert
+        assertThat(cache.teamOfSurvey(surveyId)).isEmpty();
+    }
+
+    @Test
+    void tokenClaims_decideWithoutMembershipLookup() {
+        // arrange
+        var me = new AuthUser(userId, "a@x", List.of("USER"), new TeamClaims(3, Set.of(teamA, teamB), Set.of(teamB)));
+        when(surveyRepo.findTeamIdById(surveyId)).thenReturn(Optional.of(teamB));
+
+        // act + assert
+        assertThat(cache.isMember(me, teamA)).isTrue();
+        assertThat(cache.isLeader(me, teamA)).isFalse();
+        assertThat(cache.isLeaderAnywhere(me)).isTrue();
+        assertThat(cache.isLeaderOfSurvey(me, surveyId)).isTrue();
+        verifyNoInteractions(tmRepo);
+    }
+}
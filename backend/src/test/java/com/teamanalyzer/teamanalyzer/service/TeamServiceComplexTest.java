@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -31,6 +32,8 @@ class TeamServiceComplexTest {
     TeamMemberRepository tmRepo;
     @Mock
     UserRepository userRepo;
+    @Mock
+    ApplicationEventPublisher events;
 
     @InjectMocks
     TeamService service;
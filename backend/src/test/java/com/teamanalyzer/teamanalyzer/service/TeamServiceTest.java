@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -30,6 +31,8 @@ class TeamServiceTest {
     TeamMemberRepository tmRepo;
     @Mock
     UserRepository userRepo;
+    @Mock
+    ApplicationEventPublisher events;
 
     @InjectMocks
     TeamService service;
@@ -144,6 +147,7 @@ class TeamServiceTest {
 
         // assert
         verify(tmRepo).deleteById(key);
+        verify(events).publishEvent(TeamMembershipChangedEvent.of(teamId, userId));
     }
 
     @Test
@@ -0,0 +1,104 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/TokenPurgeServiceTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.repo.TokenPurgeRepository;
+import com.teamanalyzer.teamanalyzer.repo.TokenPurgeRepository.Cursor;
+import com.teamanalyzer.teamanalyzer.repo.TokenPurgeRepository.Page;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TokenPurgeServiceTest {
+
+    @Mock
+    TokenPurgeRepository purgeRepo;
+    @Mock
+    AppClock clock;
+
+    SimpleMeterRegistry registry;
+    Instant now = Instant.parse("2025-03-01T00:00:00Z");
+    TokenPurgeService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        when(clock.now()).thenReturn(now);
+        service = new TokenPurgeService(purgeRepo, clock, registry, true, Duration.ofDays(7), Duration.ofDays(30),
+                2, Duration.ZERO);
+    }
+
+    private static List<UUID> ids(int n) {
+        return Stream.generate(UUID::randomUUID).limit(n).toList();
+    }
+
+    private void noSurveyTokens() {
+        when(purgeRepo.redeemedSurveyTokensBefore(any(), any(), anyInt())).thenReturn(new Page<>(List.of(), null));
+        when(purgeRepo.revokedSurveyTokensBefore(any(), any(), anyInt())).thenReturn(new Page<>(List.of(), null));
+    }
+
+    @Test
+    void purge_refreshTokens_followsKeysetUntilShortPage() {
+        // arrange
+        Instant cutoff = now.minus(Duration.ofDays(7));
+        List<UUID> first = ids(2);
+        List<UUID> second = ids(1);
+        Cursor afterFirst = new Cursor(cutoff.minusSeconds(60), new byte[16]);
+        when(purgeRepo.refreshTokensExpiredBefore(true, cutoff, Cursor.START, 2))
+                .thenReturn(new Page<>(first, afterFirst));
+        when(purgeRepo.refreshTokensExpiredBefore(true, cutoff, afterFirst, 2))
+                .thenReturn(new Page<>(second, afterFirst));
+        when(purgeRepo.refreshTokensExpiredBefore(false, cutoff, Cursor.START, 2))
+                .thenReturn(new Page<>(List.of(), Cursor.START));
+        when(purgeRepo.deleteRefreshTokens(first)).thenReturn(2);
+        when(purgeRepo.deleteRefreshTokens(second)).thenReturn(1);
+        noSurveyTokens();
+
+        // act
+        int purged = service.purge();
+
+        // assert
+        assertThat(purged).isEqualTo(3);
+        verify(purgeRepo, times(2)).deleteRefreshTokens(anyList());
+        assertThat(registry.get("tokens.purged").tag("table", "refresh_tokens").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void purge_surveyTokens_usesRetentionCutoffForRedeemedAndRevoked() {
+        // arrange
+        Instant cutoff = now.minus(Duration.ofDays(30));
+        List<UUID> redeemed = ids(1);
+        List<UUID> revoked = ids(1);
+        when(purgeRepo.refreshTokensExpiredBefore(anyBoolean(), any(), any(), anyInt()))
+                .thenReturn(new Page<>(List.of(), Cursor.START));
+        when(purgeRepo.redeemedSurveyTokensBefore(cutoff, null, 2)).thenReturn(new Page<>(redeemed, new byte[16]));
+        when(purgeRepo.revokedSurveyTokensBefore(cutoff, null, 2)).thenReturn(new Page<>(revoked, new byte[16]));
+        when(purgeRepo.deleteSurveyTokens(anyList())).thenReturn(1);
+
+        // act
+        int purged = service.purge();
+
+        // assert
+        assertThat(purged).isEqualTo(2);
+        verify(purgeRepo).deleteSurveyTokens(redeemed);
+        verify(purgeRepo).deleteSurveyTokens(revoked);
+        verify(purgeRepo, never()).deleteRefreshTokens(anyList());
+        assertThat(registry.get("tokens.purged").tag("table", "survey_tokens").counter().count()).isEqualTo(2.0);
+    }
+}
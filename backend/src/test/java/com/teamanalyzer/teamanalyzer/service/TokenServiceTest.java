@@ -0,0 +1,187 @@
+// src/test/java/com/teamanalyzer/teamanalyzer/service/TokenServiceTest.java
+package com.teamanalyzer.teamanalyzer.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.teamanalyzer.teamanalyzer.domain.SurveyStatus;
+import com.teamanalyzer.teamanalyzer.domain.SurveyToken;
+import com.teamanalyzer.teamanalyzer.port.AppClock;
+import com.teamanalyzer.teamanalyzer.port.DigestService;
+import com.teamanalyzer.teamanalyzer.port.EmailSender.Mail;
+import com.teamanalyzer.teamanalyzer.repo.MemberContactView;
+import com.teamanalyzer.teamanalyzer.repo.SurveyRepository;
+import com.teamanalyzer.teamanalyzer.repo.SurveyTokenRepository;
+import com.teamanalyzer.teamanalyzer.repo.TeamMemberRepository;
+import com.teamanalyzer.teamanalyzer.repo.TokenBatchRepository;
+import com.teamanalyzer.teamanalyzer.repo.TokenBatchRepository.NewToken;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    @Mock
+    SurveyTokenRepository tokenRepo;
+    @Mock
+    SurveyRepository surveyRepo;
+    @Mock
+    TeamMemberRepository tmRepo;
+    @Mock
+    AppClock clock;
+    @Mock
+    DigestService digest;
+    @Mock
+    TokenBatchRepository tokenBatchRepo;
+    @Mock
+    MailOutboxService mailOutbox;
+    @Mock
+    ApplicationEventPublisher events;
+
+    @InjectMocks
+    TokenService service;
+
+    UUID surveyId = UUID.randomUUID();
+    byte[] hash = Arrays.copyOf(new byte[] { 42 }, 32);
+    String hashHex = HexFormat.of().formatHex(hash);
+    Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    private HttpStatus statusOf(Runnable r) {
+        var ex = catchThrowableOfType(ResponseStatusException.class, r::run);
+        return HttpStatus.valueOf(ex.getStatusCode().value());
+    }
+
+    private static MemberContactView member(UUID userId, String email) {
+        return new MemberContactView() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+
+    @Test
+    void redeemForSubmission_singleConditionalUpdate_returnsReference() {
+        // arrange
+        UUID tokenId = UUID.randomUUID();
+        var ref = new SurveyToken();
+        when(clock.now()).thenReturn(now);
+        when(tokenRepo.redeemIfActive(hash, surveyId, now)).thenReturn(1);
+        when(tokenRepo.findIdByTokenHashAndSurvey_Id(hash, surveyId)).thenReturn(Optional.of(tokenId));
+        when(tokenRepo.getReferenceById(tokenId)).thenReturn(ref);
+
+        // act
+        SurveyToken tok = service.redeemForSubmission(surveyId, hashHex);
+
+        // assert
+        assertThat(tok).isSameAs(ref);
+        var order = inOrder(tokenRepo);
+        order.verify(tokenRepo).redeemIfActive(hash, surveyId, now);
+        order.verify(tokenRepo).findIdByTokenHashAndSurvey_Id(hash, surveyId);
+        verify(tokenRepo, never()).save(any());
+    }
+
+    @Test
+    void redeemForSubmission_usedOrRevokedToken_is410() {
+        // arrange
+        UUID tokenId = UUID.randomUUID();
+        when(clock.now()).thenReturn(now);
+        when(tokenRepo.redeemIfActive(hash, surveyId, now)).thenReturn(0);
+        when(tokenRepo.findIdByTokenHashAndSurvey_Id(hash, surveyId)).thenReturn(Optional.of(tokenId));
+
+        // act + assert
+        assertThat(statusOf(() -> service.redeemForSubmission(surveyId, hashHex))).isEqualTo(HttpStatus.GONE);
+    }
+
+    @Test
+    void redeemForSubmission_unknownToken_is404() {
+        // arrange
+        when(clock.now()).thenReturn(now);
+        when(tokenRepo.redeemIfActive(hash, surveyId, now)).thenReturn(0);
+        when(tokenRepo.findIdByTokenHashAndSurvey_Id(hash, surveyId)).thenReturn(Optional.empty());
+
+        // act + assert
+        assertThat(statusOf(() -> service.redeemForSubmission(surveyId, hashHex))).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void redeemForSubmission_malformedHash_is400() {
+        assertThat(statusOf(() -> service.redeemForSubmission(surveyId, "zz"))).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(tokenRepo);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ensureTokensForAllTeamMembers_skipsHoldersAndInsertsRestInOneBatch() {
+        // arrange
+        UUID teamId = UUID.randomUUID();
+        UUID holder = UUID.randomUUID();
+        UUID u1 = UUID.randomUUID();
+        UUID u2 = UUID.randomUUID();
+        when(surveyRepo.findTeamIdById(surveyId)).thenReturn(Optional.of(teamId));
+        when(surveyRepo.findStatusById(surveyId)).thenReturn(Optional.of(SurveyStatus.OPEN));
+        when(tokenRepo.findActiveHolderIds(surveyId)).thenReturn(Set.of(holder));
+        when(tmRepo.findContactsByTeamId(teamId)).thenReturn(List.of(
+                member(holder, "h@x"), member(u1, "a@x"), member(u2, null)));
+        when(digest.sha256(anyString())).thenReturn(hash);
+        when(clock.now()).thenReturn(now);
+        when(tokenBatchRepo.insertTokens(eq(surveyId), eq(now), anyList())).thenReturn(2);
+
+        // act
+        int created = service.ensureTokensForAllTeamMembers(surveyId);
+
+        // assert
+        assertThat(created).isEqualTo(2);
+        ArgumentCaptor<List<NewToken>> rows = ArgumentCaptor.forClass(List.class);
+        verify(tokenBatchRepo).insertTokens(eq(surveyId), eq(now), rows.capture());
+        assertThat(rows.getValue()).extracting(NewToken::userId).containsExactly(u1, u2);
+        assertThat(rows.getValue()).extracting(NewToken::email).containsExactly("a@x", null);
+        verify(tokenRepo, never()).save(any());
+
+        ArgumentCaptor<Map<String, Mail>> invites = ArgumentCaptor.forClass(Map.class);
+        verify(mailOutbox).enqueueAll(invites.capture());
+        assertThat(invites.getValue()).containsOnlyKeys("survey-invite:" + surveyId + ":a@x");
+        verify(events).publishEvent(any(SurveyTokensIssuedEvent.class));
+    }
+
+    @Test
+    void ensureTokensForAllTeamMembers_allHoldTokens_insertsNothing() {
+        // arrange
+        UUID teamId = UUID.randomUUID();
+        UUID holder = UUID.randomUUID();
+        when(surveyRepo.findTeamIdById(surveyId)).thenReturn(Optional.of(teamId));
+        when(surveyRepo.findStatusById(surveyId)).thenReturn(Optional.of(SurveyStatus.OPEN));
+        when(tokenRepo.findActiveHolderIds(surveyId)).thenReturn(Set.of(holder));
+        when(tmRepo.findContactsByTeamId(teamId)).thenReturn(List.of(member(holder, "h@x")));
+
+        // act
+        int created = service.ensureTokensForAllTeamMembers(surveyId);
+
+        // assert
+        assertThat(created).isZero();
+        verifyNoInteractions(tokenBatchRepo, digest, mailOutbox);
+    }
+}
@@ -1,7 +1,6 @@
 // src/test/java/com/teamanalyzer/teamanalyzer/web/TeamAdminControllerWebMvcTest.java
 package com.teamanalyzer.teamanalyzer.web;
 
-import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;